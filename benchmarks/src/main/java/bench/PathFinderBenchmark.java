@@ -0,0 +1,94 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.awt.headless=true"})
+public class PathFinderBenchmark {
+
+    // Class game ada di default package, yang tidak bisa di-import dari package ini (JMH menolak
+    // benchmark di default package). Method diakses lewat MethodHandle static final, yang di-inline
+    // JIT seperti panggilan biasa, jadi tidak menambah overhead ke hasil
+    private static final MethodHandle NEW_MAZE;
+    private static final MethodHandle GENERATE;
+    private static final MethodHandle BFS;
+    private static final MethodHandle DFS;
+    private static final MethodHandle DIJKSTRA;
+    private static final MethodHandle A_STAR;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> maze = Class.forName("Maze");
+            Class<?> pathFinder = Class.forName("PathFinder");
+            Class<?> pathResult = Class.forName("PathResult");
+            MethodType search = MethodType.methodType(pathResult, maze);
+            MethodType erased = MethodType.methodType(Object.class, Object.class);
+
+            NEW_MAZE = lookup.findConstructor(maze, MethodType.methodType(void.class, int.class, int.class, long.class))
+                    .asType(MethodType.methodType(Object.class, int.class, int.class, long.class));
+            GENERATE = lookup.findVirtual(maze, "generateMaze", MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(void.class, Object.class));
+            BFS = lookup.findStatic(pathFinder, "findPathBFS", search).asType(erased);
+            DFS = lookup.findStatic(pathFinder, "findPathDFS", search).asType(erased);
+            DIJKSTRA = lookup.findStatic(pathFinder, "findPathDijkstra", search).asType(erased);
+            A_STAR = lookup.findStatic(pathFinder, "findPathAStar", search).asType(erased);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Seed tetap: setiap run (dan setiap perubahan engine) diukur di maze yang sama persis
+    public static final long SEED = 20251;
+
+    @Param({"25", "101", "501", "1025", "2049", "4096"})
+    public int size;
+
+    private Object maze;
+
+    @Setup(Level.Trial)
+    public void generate() throws Throwable {
+        maze = (Object) NEW_MAZE.invokeExact(size, size, SEED);
+        GENERATE.invokeExact(maze);
+    }
+
+    @Benchmark
+    public Object bfs() throws Throwable {
+        return (Object) BFS.invokeExact(maze);
+    }
+
+    @Benchmark
+    public Object dfs() throws Throwable {
+        return (Object) DFS.invokeExact(maze);
+    }
+
+    @Benchmark
+    public Object dijkstra() throws Throwable {
+        return (Object) DIJKSTRA.invokeExact(maze);
+    }
+
+    @Benchmark
+    public Object aStar() throws Throwable {
+        return (Object) A_STAR.invokeExact(maze);
+    }
+}
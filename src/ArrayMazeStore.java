@@ -0,0 +1,70 @@
+import java.util.Arrays;
+
+public class ArrayMazeStore implements MazeStore {
+
+    // Storage di heap: wall 1 bit per cell di long[], terrain 1 byte per cell
+    private final int rows;
+    private final int cols;
+    private final long[] walls;
+    private final byte[] terrain;
+
+    public ArrayMazeStore(int rows, int cols) {
+        long size = (long) rows * cols;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze too large: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.walls = new long[(int) ((size + 63) >>> 6)];
+        this.terrain = new byte[(int) size];
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public boolean isWall(int index) {
+        return (walls[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public void setWall(int index, boolean wall) {
+        if (wall) {
+            walls[index >>> 6] |= 1L << index;
+        } else {
+            walls[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    @Override
+    public int getTerrain(int index) {
+        return terrain[index];
+    }
+
+    @Override
+    public void setTerrain(int index, int ordinal) {
+        terrain[index] = (byte) ordinal;
+    }
+
+    @Override
+    public void fillWalls(boolean wall) {
+        Arrays.fill(walls, wall ? -1L : 0L);
+    }
+
+    @Override
+    public void fillTerrain(int ordinal) {
+        Arrays.fill(terrain, (byte) ordinal);
+    }
+
+    @Override
+    public long getStorageBytes() {
+        return 8L * walls.length + terrain.length;
+    }
+}
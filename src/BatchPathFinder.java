@@ -0,0 +1,158 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class BatchPathFinder {
+
+    // Banyak query (start, end, algoritma) di satu maze read-only, dibagi ke ForkJoinPool.
+    // Setiap worker thread punya SearchWorkspace sendiri, dibuat sekali lalu dipakai ulang
+    private static final int SPLIT_THRESHOLD = 8;
+
+    private final Maze maze;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<SearchWorkspace> workspaces;
+
+    public BatchPathFinder(Maze maze) {
+        this(maze, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchPathFinder(Maze maze, int parallelism) {
+        this.maze = maze;
+        this.pool = new ForkJoinPool(parallelism);
+        this.workspaces = ThreadLocal.withInitial(() -> SearchWorkspace.forMaze(maze));
+    }
+
+    public static class Query {
+        private final Cell start;
+        private final Cell end;
+        private final String algorithm;
+
+        // algorithm: "Dijkstra", "A*" atau "Dial"
+        public Query(Cell start, Cell end, String algorithm) {
+            this.start = start;
+            this.end = end;
+            this.algorithm = algorithm;
+        }
+
+        public Cell getStart() {
+            return start;
+        }
+
+        public Cell getEnd() {
+            return end;
+        }
+
+        public String getAlgorithm() {
+            return algorithm;
+        }
+    }
+
+    public static class BatchResult {
+        private final List<PathResult> results;
+        private final long elapsedNanos;
+
+        BatchResult(List<PathResult> results, long elapsedNanos) {
+            this.results = results;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        // Urutan sama dengan urutan query
+        public List<PathResult> getResults() {
+            return results;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getQueriesPerSecond() {
+            return elapsedNanos == 0 ? 0 : results.size() * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+
+    public BatchResult solve(List<Query> queries) {
+        for (Query query : queries) {
+            switch (query.getAlgorithm()) {
+                case "Dijkstra":
+                case "A*":
+                case "Dial":
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported batch algorithm: " + query.getAlgorithm());
+            }
+        }
+
+        long startTime = System.nanoTime();
+        PathResult[] results = new PathResult[queries.size()];
+        pool.invoke(new SolveRange(queries, results, 0, queries.size()));
+        long elapsed = System.nanoTime() - startTime;
+
+        return new BatchResult(Arrays.asList(results), elapsed);
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private PathResult solveOne(Query query, SearchWorkspace workspace) {
+        long startTime = System.nanoTime();
+        int start = maze.indexOf(query.getStart());
+        int end = maze.indexOf(query.getEnd());
+
+        int cost;
+        switch (query.getAlgorithm()) {
+            case "Dial":
+                cost = GridSearch.dialCost(maze, workspace, start, end);
+                break;
+            case "A*":
+                cost = GridSearch.shortestCost(maze, workspace, start, end, true);
+                break;
+            default:
+                cost = GridSearch.shortestCost(maze, workspace, start, end, false);
+                break;
+        }
+
+        List<Cell> path = null;
+        if (cost >= 0) {
+            path = new ArrayList<>();
+            for (int current = end; current != SearchWorkspace.NO_PARENT; current = workspace.getParent(current)) {
+                path.add(maze.getCell(current));
+            }
+            Collections.reverse(path);
+        }
+
+        long executionTime = (System.nanoTime() - startTime) / 1000;
+        return new PathResult(path, cost, executionTime, query.getAlgorithm());
+    }
+
+    private class SolveRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Query> queries;
+        private final PathResult[] results;
+        private final int from;
+        private final int to;
+
+        SolveRange(List<Query> queries, PathResult[] results, int from, int to) {
+            this.queries = queries;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                SearchWorkspace workspace = workspaces.get();
+                for (int i = from; i < to; i++) {
+                    results[i] = solveOne(queries.get(i), workspace);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new SolveRange(queries, results, from, middle),
+                    new SolveRange(queries, results, middle, to));
+        }
+    }
+}
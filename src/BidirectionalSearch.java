@@ -0,0 +1,218 @@
+import java.util.*;
+
+public class BidirectionalSearch {
+
+    // Search maju dari start dan mundur dari end, bertemu di tengah.
+    // Cost edge u -> v = cost(v), jadi search mundur dari x ke tetangga y menambah cost(x)
+    private static final int INF = SearchWorkspace.INF;
+    private static final int NO_PARENT = SearchWorkspace.NO_PARENT;
+
+    // ========== BIDIRECTIONAL BFS ==========
+
+    public static PathResult bfs(Maze maze) {
+        return bfs(maze, SearchMonitor.NONE);
+    }
+
+    public static PathResult bfs(Maze maze, SearchMonitor monitor) {
+        return bfs(maze, SearchWorkspace.forThread(maze), monitor);
+    }
+
+    // Arah maju memakai workspace, arah mundur workspace.getBackward(); distance = kedalaman BFS.
+    // Frontier tiap arah = potongan [head, tail) di antrean workspace masing-masing
+    public static PathResult bfs(Maze maze, SearchWorkspace workspace, SearchMonitor monitor) {
+        long startTime = System.nanoTime();
+
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+
+        SearchWorkspace forwardSpace = workspace;
+        SearchWorkspace backwardSpace = workspace.getBackward();
+        forwardSpace.reset();
+        backwardSpace.reset();
+
+        int start = maze.indexOf(maze.getStart());
+        int end = maze.indexOf(maze.getEnd());
+
+        int[] queueForward = forwardSpace.getQueue();
+        int[] queueBackward = backwardSpace.getQueue();
+        int headForward = 0, tailForward = 1;
+        int headBackward = 0, tailBackward = 1;
+
+        queueForward[0] = start;
+        queueBackward[0] = end;
+        forwardSpace.update(start, 0, NO_PARENT);
+        backwardSpace.update(end, 0, NO_PARENT);
+
+        int meet = start == end ? start : -1;
+
+        while (meet < 0 && tailForward > headForward && tailBackward > headBackward) {
+            // Expand satu level penuh dari frontier yang lebih kecil, ambil pertemuan dengan langkah minimum
+            boolean forward = tailForward - headForward <= tailBackward - headBackward;
+            SearchWorkspace space = forward ? forwardSpace : backwardSpace;
+            SearchWorkspace other = forward ? backwardSpace : forwardSpace;
+            int[] queue = forward ? queueForward : queueBackward;
+            int head = forward ? headForward : headBackward;
+            int tail = forward ? tailForward : tailBackward;
+            int otherCount = forward ? tailBackward - headBackward : tailForward - headForward;
+
+            int levelEnd = tail;
+            int bestSteps = INF;
+
+            for (int i = head; i < levelEnd; i++) {
+                int current = queue[i];
+                monitor.expanded(current, tail - i + otherCount);
+                int row = current / cols;
+                int col = current % cols;
+                int depth = space.getDistance(current) + 1;
+
+                for (int d = 0; d < 4; d++) {
+                    int neighbor = GridSearch.neighborOf(current, row, col, d, rows, cols);
+                    if (neighbor < 0 || space.getDistance(neighbor) != INF || !maze.isOpen(neighbor)) continue;
+
+                    space.update(neighbor, depth, current);
+                    queue[tail++] = neighbor;
+
+                    int otherDepth = other.getDistance(neighbor);
+                    if (otherDepth != INF && depth + otherDepth < bestSteps) {
+                        bestSteps = depth + otherDepth;
+                        meet = neighbor;
+                    }
+                }
+            }
+
+            monitor.endFrame();
+
+            if (forward) {
+                headForward = levelEnd;
+                tailForward = tail;
+            } else {
+                headBackward = levelEnd;
+                tailBackward = tail;
+            }
+        }
+
+        long executionTime = (System.nanoTime() - startTime) / 1000;
+        if (meet < 0) {
+            return new PathResult(null, -1, executionTime, "Bi-BFS");
+        }
+
+        List<Cell> path = joinPath(maze, forwardSpace, backwardSpace, meet);
+        int totalCost = 0;
+        for (Cell cell : path) {
+            totalCost += cell.getCost();
+        }
+        return new PathResult(path, totalCost, executionTime, "Bi-BFS");
+    }
+
+    // ========== BIDIRECTIONAL DIJKSTRA / A* ==========
+
+    public static PathResult dijkstra(Maze maze) {
+        return dijkstra(maze, SearchMonitor.NONE);
+    }
+
+    public static PathResult dijkstra(Maze maze, SearchMonitor monitor) {
+        return weighted(maze, 0, "Bi-Dijkstra", monitor);
+    }
+
+    public static PathResult aStar(Maze maze) {
+        return aStar(maze, SearchMonitor.NONE);
+    }
+
+    // Manhattan dikali cost terrain termurah di maze supaya heuristic tetap admissible dan cost-nya optimal.
+    // Selama ada cell Clear Path (cost 0) skalanya 0 dan hasilnya sama persis dengan Bi-Dijkstra,
+    // karena itu tidak ditawarkan di ControlPanel
+    public static PathResult aStar(Maze maze, SearchMonitor monitor) {
+        return weighted(maze, maze.getMinOpenCost(), "Bi-A*", monitor);
+    }
+
+    // Potential rata-rata p(v) = (hEnd(v) - hStart(v)) / 2 untuk maju dan -p(v) untuk mundur,
+    // key disimpan dua kali lipat supaya tetap integer. Stop saat minForward + minBackward >= 2 * best
+    private static PathResult weighted(Maze maze, int heuristicScale, String algorithmName, SearchMonitor monitor) {
+        long startTime = System.nanoTime();
+
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+
+        SearchWorkspace forwardSpace = SearchWorkspace.forThread(maze);
+        SearchWorkspace backwardSpace = forwardSpace.getBackward();
+        forwardSpace.reset();
+        backwardSpace.reset();
+        IndexedHeap openForward = forwardSpace.getHeap();
+        IndexedHeap openBackward = backwardSpace.getHeap();
+
+        int start = maze.indexOf(maze.getStart());
+        int end = maze.indexOf(maze.getEnd());
+        int startRow = start / cols, startCol = start % cols;
+        int endRow = end / cols, endCol = end % cols;
+
+        forwardSpace.update(start, 0, NO_PARENT);
+        backwardSpace.update(end, 0, NO_PARENT);
+        openForward.push(start, heuristicScale * potential(start, cols, startRow, startCol, endRow, endCol));
+        openBackward.push(end, -heuristicScale * potential(end, cols, startRow, startCol, endRow, endCol));
+
+        long best = start == end ? 0 : INF;
+        int meet = start == end ? start : -1;
+
+        while (!openForward.isEmpty() && !openBackward.isEmpty()
+                && openForward.peekKey() + openBackward.peekKey() < 2 * best) {
+
+            // Satu langkah di arah dengan open list lebih kecil. Mundur: cost edge = cost(current)
+            boolean forward = openForward.size() <= openBackward.size();
+            SearchWorkspace space = forward ? forwardSpace : backwardSpace;
+            SearchWorkspace other = forward ? backwardSpace : forwardSpace;
+            IndexedHeap open = space.getHeap();
+            int sign = forward ? 1 : -1;
+
+            int current = open.pop();
+            space.close(current);
+            monitor.expanded(current, openForward.size() + openBackward.size());
+            int row = current / cols;
+            int col = current % cols;
+            int currentCost = space.getDistance(current);
+            int stepCost = maze.getCost(current);
+
+            for (int d = 0; d < 4; d++) {
+                int neighbor = GridSearch.neighborOf(current, row, col, d, rows, cols);
+                if (neighbor < 0 || space.isClosed(neighbor) || !maze.isOpen(neighbor)) continue;
+
+                int newCost = currentCost + (forward ? maze.getCost(neighbor) : stepCost);
+                if (newCost < space.getDistance(neighbor)) {
+                    space.update(neighbor, newCost, current);
+                    open.pushOrDecrease(neighbor, 2 * newCost
+                            + sign * heuristicScale * potential(neighbor, cols, startRow, startCol, endRow, endCol));
+
+                    int otherCost = other.getDistance(neighbor);
+                    if (otherCost != INF && (long) newCost + otherCost < best) {
+                        best = (long) newCost + otherCost;
+                        meet = neighbor;
+                    }
+                }
+            }
+        }
+
+        long executionTime = (System.nanoTime() - startTime) / 1000;
+        if (meet < 0) {
+            return new PathResult(null, -1, executionTime, algorithmName);
+        }
+
+        List<Cell> path = joinPath(maze, forwardSpace, backwardSpace, meet);
+        return new PathResult(path, (int) best, executionTime, algorithmName);
+    }
+
+    // hEnd(v) - hStart(v) dengan jarak Manhattan
+    private static int potential(int index, int cols, int startRow, int startCol, int endRow, int endCol) {
+        int row = index / cols;
+        int col = index % cols;
+        return Math.abs(row - endRow) + Math.abs(col - endCol)
+                - Math.abs(row - startRow) - Math.abs(col - startCol);
+    }
+
+    private static List<Cell> joinPath(Maze maze, SearchWorkspace forwardSpace, SearchWorkspace backwardSpace,
+                                       int meet) {
+        List<Cell> path = GridSearch.buildPath(maze, forwardSpace, meet);
+        for (int current = backwardSpace.getParent(meet); current != NO_PARENT; current = backwardSpace.getParent(current)) {
+            path.add(maze.getCell(current));
+        }
+        return path;
+    }
+}
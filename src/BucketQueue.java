@@ -0,0 +1,95 @@
+import java.util.Arrays;
+
+public class BucketQueue {
+
+    // Dial's queue: bucket melingkar sebanyak maxCost + 1, tiap bucket linked list intrusif lewat next/prev
+    private final int[] head;
+    private final int[] next;
+    private final int[] prev;
+    private final int[] key;
+    private final boolean[] queued;
+    private final int bucketCount;
+
+    private int size;
+    private int cursor;
+
+    public BucketQueue(int capacity, int maxCost) {
+        this.bucketCount = maxCost + 1;
+        this.head = new int[bucketCount];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.key = new int[capacity];
+        this.queued = new boolean[capacity];
+        Arrays.fill(head, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int index) {
+        return queued[index];
+    }
+
+    // Key harus di antara cursor dan cursor + maxCost (berlaku untuk Dijkstra dengan cost >= 0).
+    // Entry baru masuk di depan bucket, jadi edge cost 0 langsung diproses berikutnya seperti deque 0-1 BFS
+    public void push(int index, int distance) {
+        int b = distance % bucketCount;
+        key[index] = distance;
+        queued[index] = true;
+        prev[index] = -1;
+        next[index] = head[b];
+        if (head[b] >= 0) prev[head[b]] = index;
+        head[b] = index;
+        size++;
+    }
+
+    public void pushOrDecrease(int index, int distance) {
+        if (!queued[index]) {
+            push(index, distance);
+        } else if (distance < key[index]) {
+            unlink(index);
+            push(index, distance);
+        }
+    }
+
+    public int pop() {
+        int b = cursor % bucketCount;
+        while (head[b] < 0) {
+            cursor++;
+            b = cursor % bucketCount;
+        }
+
+        int index = head[b];
+        unlink(index);
+        return index;
+    }
+
+    public void clear() {
+        for (int b = 0; b < bucketCount; b++) {
+            for (int i = head[b]; i >= 0; i = next[i]) {
+                queued[i] = false;
+            }
+            head[b] = -1;
+        }
+        size = 0;
+        cursor = 0;
+    }
+
+    private void unlink(int index) {
+        int b = key[index] % bucketCount;
+        if (prev[index] >= 0) {
+            next[prev[index]] = next[index];
+        } else {
+            head[b] = next[index];
+        }
+        if (next[index] >= 0) prev[next[index]] = prev[index];
+
+        queued[index] = false;
+        size--;
+    }
+}
@@ -1,26 +1,26 @@
 public class Cell {
-    private int row;
-    private int col;
-    private CellType type;
-    private boolean isWall;
-    private boolean isStart;
-    private boolean isEnd;
+    // View ringan di atas storage Maze: wall, terrain, start dan end dibaca langsung dari Maze.
+    // Cell hanya menyimpan state tampilan (path, exploring, visitOrder)
+    private final Maze maze;
+    private final int row;
+    private final int col;
     private boolean isPath;
     private boolean isExploring;
     private int visitOrder;
 
-    public Cell(int row, int col) {
+    Cell(Maze maze, int row, int col) {
+        this.maze = maze;
         this.row = row;
         this.col = col;
-        this.type = CellType.EMPTY;
-        this.isWall = false;
-        this.isStart = false;
-        this.isEnd = false;
         this.isPath = false;
         this.isExploring = false;
         this.visitOrder = -1;
     }
 
+    private int index() {
+        return row * maze.getCols() + col;
+    }
+
     // ========== GETTER METHODS ==========
 
     public int getRow() {
@@ -32,19 +32,19 @@ public class Cell {
     }
 
     public CellType getType() {
-        return type;
+        return maze.getType(index());
     }
 
     public boolean isWall() {
-        return isWall;
+        return !maze.isOpen(index());
     }
 
     public boolean isStart() {
-        return isStart;
+        return maze.getStartIndex() == index();
     }
 
     public boolean isEnd() {
-        return isEnd;
+        return maze.getEndIndex() == index();
     }
 
     public boolean isPath() {
@@ -61,20 +61,13 @@ public class Cell {
 
     // ========== SETTER METHODS ==========
 
+    // Wall dan terrain ditulis ke Maze, jadi version dan listener ikut jalan
     public void setType(CellType type) {
-        this.type = type;
+        maze.setTerrain(row, col, type);
     }
 
     public void setWall(boolean wall) {
-        this.isWall = wall;
-    }
-
-    public void setStart(boolean start) {
-        this.isStart = start;
-    }
-
-    public void setEnd(boolean end) {
-        this.isEnd = end;
+        maze.setWall(row, col, wall);
     }
 
     public void setPath(boolean path) {
@@ -90,7 +83,7 @@ public class Cell {
     }
 
     public int getCost() {
-        return type.getCost();
+        return getType().getCost();
     }
 
     @Override
@@ -29,6 +29,22 @@ public enum CellType {
         return name;
     }
 
+    public static int getMinCost() {
+        int min = Integer.MAX_VALUE;
+        for (CellType type : values()) {
+            min = Math.min(min, type.cost);
+        }
+        return min;
+    }
+
+    public static int getMaxCost() {
+        int max = 0;
+        for (CellType type : values()) {
+            max = Math.max(max, type.cost);
+        }
+        return max;
+    }
+
     public Color getDarkerColor() {
         return new Color(
                 Math.max(0, color.getRed() - 30),
@@ -3,12 +3,27 @@ import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ControlPanel extends JPanel {
     private MazePanel mazePanel;
     private JTextArea resultArea;
     private JComboBox<String> algorithmSelector;
     private List<PathResult> allResults;
+    private HierarchicalPathFinder hierarchicalPathFinder;
+    private JButton cancelBtn;
+    private JTextField seedField;
+
+    // Compare All jalan di worker thread, jumlah thread dibatasi jumlah core supaya
+    // algoritma tidak berebut CPU dan waktu eksekusi masing-masing tidak saling mengganggu
+    private static final String[] COMPARE_ALGORITHMS = {"BFS", "DFS", "Dijkstra", "A*", "Dial", "HPA*"};
+    private ExecutorService compareExecutor;
+    private SwingWorker<List<PathResult>, PathResult> compareWorker;
+
+    // Find Path juga jalan di background, dibatalkan oleh request baru, New Maze, atau Cancel
+    private static final long SEARCH_TIMEOUT_MS = 10_000;
+    private SearchWorker searchWorker;
 
     private static final Color BG_PRIMARY = new Color(42, 54, 59);
     private static final Color BG_SECONDARY = new Color(52, 67, 73);
@@ -45,23 +60,10 @@ public class ControlPanel extends JPanel {
 
         newMazeBtn.addActionListener(e -> {
             SoundManager.playSound("click.wav");
+            cancelSearch();
+            cancelComparison();
             mazePanel.generateNewMaze();
-
-            Maze maze = mazePanel.getMaze();
-            if (maze.getStart() != null && maze.getEnd() != null) {
-                int distance = Math.abs(maze.getStart().getRow() - maze.getEnd().getRow()) +
-                        Math.abs(maze.getStart().getCol() - maze.getEnd().getCol());
-
-                resultArea.setText(
-                        " New maze generated!\n\n" +
-                                " Start: (" + maze.getStart().getRow() + ", " + maze.getStart().getCol() + ")\n" +
-                                " End: (" + maze.getEnd().getRow() + ", " + maze.getEnd().getCol() + ")\n" +
-                                " Distance: " + distance + " units\n\n" +
-                                " Select algorithm to find path...\n"
-                );
-            }
-
-            allResults.clear();
+            showNewMazeInfo();
         });
 
         panel.add(title, BorderLayout.WEST);
@@ -70,6 +72,31 @@ public class ControlPanel extends JPanel {
         return panel;
     }
 
+    private void showNewMazeInfo() {
+        Maze maze = mazePanel.getMaze();
+        seedField.setText(Long.toString(maze.getSeed()));
+
+        if (maze.getStart() != null && maze.getEnd() != null) {
+            // Jarak graph (langkah) dari generate, Manhattan kalau tidak tersedia
+            int distance = maze.getEndpointDistance();
+            if (distance < 0) {
+                distance = Math.abs(maze.getStart().getRow() - maze.getEnd().getRow()) +
+                        Math.abs(maze.getStart().getCol() - maze.getEnd().getCol());
+            }
+
+            resultArea.setText(
+                    " New maze generated!\n\n" +
+                            " Seed: " + maze.getSeed() + "\n" +
+                            " Start: (" + maze.getStart().getRow() + ", " + maze.getStart().getCol() + ")\n" +
+                            " End: (" + maze.getEnd().getRow() + ", " + maze.getEnd().getCol() + ")\n" +
+                            " Distance: " + distance + " units\n\n" +
+                            " Select algorithm to find path...\n"
+            );
+        }
+
+        allResults.clear();
+    }
+
     private JPanel createMainControlsPanel() {
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
@@ -77,6 +104,8 @@ public class ControlPanel extends JPanel {
 
         panel.add(createAlgorithmSelectorPanel());
         panel.add(Box.createVerticalStrut(15));
+        panel.add(createSeedPanel());
+        panel.add(Box.createVerticalStrut(15));
         panel.add(createActionButtonsPanel());
         panel.add(Box.createVerticalStrut(15));
         panel.add(createLegendPanel());
@@ -115,7 +144,9 @@ public class ControlPanel extends JPanel {
         label.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         String[] algorithms = {"BFS - Breadth First Search", "DFS - Depth First Search",
-                "Dijkstra - Shortest Path", "A* - Optimal Pathfinding"};
+                "Dijkstra - Shortest Path", "A* - Optimal Pathfinding",
+                "Dial - Bucket Queue Dijkstra", "Bi-BFS - Bidirectional BFS",
+                "Bi-Dijkstra - Bidirectional Dijkstra", "HPA* - Hierarchical Pathfinding"};
         algorithmSelector = new JComboBox<>(algorithms);
         algorithmSelector.setFont(new Font("Segoe UI", Font.PLAIN, 12));
         algorithmSelector.setBackground(Color.WHITE);
@@ -158,6 +189,82 @@ public class ControlPanel extends JPanel {
         return panel;
     }
 
+    // Seed maze yang sedang tampil; seed lain bisa diketik lalu Regenerate untuk membuat ulang maze itu.
+    // Loops: fraksi tembok ekstra yang dibuka (Maze.setLoopDensity), berlaku untuk maze berikutnya
+    private JPanel createSeedPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(BG_SECONDARY);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(new Color(70, 85, 90), 2),
+                new EmptyBorder(10, 15, 10, 15)
+        ));
+        panel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 100));
+
+        JPanel seedRow = new JPanel(new BorderLayout(8, 0));
+        seedRow.setOpaque(false);
+
+        JLabel label = new JLabel("Seed:");
+        label.setFont(new Font("Segoe UI", Font.BOLD, 13));
+        label.setForeground(TEXT_PRIMARY);
+
+        seedField = new JTextField(Long.toString(mazePanel.getMaze().getSeed()));
+        seedField.setFont(new Font("Consolas", Font.PLAIN, 12));
+        seedField.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(new Color(180, 190, 195), 1),
+                new EmptyBorder(4, 6, 4, 6)
+        ));
+
+        JButton regenerateBtn = createModernButton("Regenerate", ACCENT_GREEN);
+        regenerateBtn.setPreferredSize(new Dimension(110, 32));
+
+        regenerateBtn.addActionListener(e -> {
+            SoundManager.playSound("click.wav");
+            long seed;
+            try {
+                seed = Long.parseLong(seedField.getText().trim());
+            } catch (NumberFormatException ex) {
+                resultArea.setText(" Invalid seed: " + seedField.getText().trim() + "\n");
+                return;
+            }
+
+            cancelSearch();
+            cancelComparison();
+            mazePanel.generateNewMaze(seed);
+            showNewMazeInfo();
+        });
+
+        seedRow.add(label, BorderLayout.WEST);
+        seedRow.add(seedField, BorderLayout.CENTER);
+        seedRow.add(regenerateBtn, BorderLayout.EAST);
+
+        JPanel loopRow = new JPanel(new BorderLayout(8, 0));
+        loopRow.setOpaque(false);
+
+        JLabel loopLabel = new JLabel("Loops:");
+        loopLabel.setFont(new Font("Segoe UI", Font.BOLD, 13));
+        loopLabel.setForeground(TEXT_PRIMARY);
+
+        String[] loopOptions = {"None (perfect maze)", "10% of walls", "25% of walls", "50% of walls"};
+        double[] loopDensities = {0, 0.1, 0.25, 0.5};
+        JComboBox<String> loopSelector = new JComboBox<>(loopOptions);
+        loopSelector.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        loopSelector.setBackground(Color.WHITE);
+        loopSelector.setForeground(new Color(42, 54, 59));
+
+        loopSelector.addActionListener(e ->
+                mazePanel.getMaze().setLoopDensity(loopDensities[loopSelector.getSelectedIndex()]));
+
+        loopRow.add(loopLabel, BorderLayout.WEST);
+        loopRow.add(loopSelector, BorderLayout.CENTER);
+
+        panel.add(seedRow);
+        panel.add(Box.createVerticalStrut(8));
+        panel.add(loopRow);
+
+        return panel;
+    }
+
     private JPanel createActionButtonsPanel() {
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
@@ -182,9 +289,22 @@ public class ControlPanel extends JPanel {
             compareAllAlgorithms();
         });
 
+        cancelBtn = createModernButton("Cancel", new Color(200, 80, 70));
+        cancelBtn.setMaximumSize(new Dimension(Integer.MAX_VALUE, 45));
+        cancelBtn.setAlignmentX(Component.CENTER_ALIGNMENT);
+        cancelBtn.setEnabled(false);
+
+        cancelBtn.addActionListener(e -> {
+            SoundManager.playSound("click.wav");
+            cancelSearch();
+            cancelComparison();
+        });
+
         panel.add(runBtn);
         panel.add(Box.createVerticalStrut(12));
         panel.add(compareBtn);
+        panel.add(Box.createVerticalStrut(12));
+        panel.add(cancelBtn);
 
         return panel;
     }
@@ -316,31 +436,96 @@ public class ControlPanel extends JPanel {
 
     private void runSelectedAlgorithm() {
         int selectedIndex = algorithmSelector.getSelectedIndex();
-        String[] algorithmNames = {"BFS", "DFS", "Dijkstra", "A*"};
+        String[] algorithmNames = {"BFS", "DFS", "Dijkstra", "A*", "Dial",
+                "Bi-BFS", "Bi-Dijkstra", "HPA*"};
+        cancelComparison();
         runAlgorithm(algorithmNames[selectedIndex]);
     }
 
     private void runAlgorithm(String algorithm) {
-        PathResult result = null;
+        cancelSearch();
 
-        switch (algorithm) {
-            case "BFS":
-                result = PathFinder.findPathBFS(mazePanel.getMaze());
-                break;
-            case "DFS":
-                result = PathFinder.findPathDFS(mazePanel.getMaze());
-                break;
-            case "Dijkstra":
-                result = PathFinder.findPathDijkstra(mazePanel.getMaze());
-                break;
-            case "A*":
-                result = PathFinder.findPathAStar(mazePanel.getMaze());
-                break;
+        mazePanel.clearPath();
+        mazePanel.repaint();
+        resultArea.setText("═══ " + algorithm + " ═══\n\nSearching...\n");
+        cancelBtn.setEnabled(true);
+
+        searchWorker = new SearchWorker(mazePanel.getMaze(), algorithm);
+        searchWorker.execute();
+    }
+
+    private void cancelSearch() {
+        if (searchWorker == null) return;
+
+        SearchWorker worker = searchWorker;
+        searchWorker = null;
+        worker.monitor.cancel();
+        mazePanel.stopReplay();
+        worker.cancel(true);
+        cancelBtn.setEnabled(compareWorker != null);
+    }
+
+    // Satu search di background. Monitor mengirim cell yang di-expand per batch ke MazePanel,
+    // dan menghentikan engine saat dibatalkan atau lewat SEARCH_TIMEOUT_MS
+    private class SearchWorker extends SwingWorker<PathResult, SearchMonitor.Progress> {
+        private final Maze maze;
+        private final String algorithm;
+        private final SearchMonitor monitor;
+
+        SearchWorker(Maze maze, String algorithm) {
+            this.maze = maze;
+            this.algorithm = algorithm;
+            this.monitor = new SearchMonitor(SEARCH_TIMEOUT_MS, SearchMonitor.DEFAULT_BATCH_SIZE,
+                    this::publishProgress, new ExplorationTrace());
+        }
+
+        private void publishProgress(SearchMonitor.Progress progress) {
+            publish(progress);
+        }
+
+        @Override
+        protected PathResult doInBackground() {
+            PathResult result = solve(maze, algorithm, monitor);
+            monitor.flush();
+            return result;
+        }
+
+        @Override
+        protected void process(List<SearchMonitor.Progress> chunks) {
+            if (this != searchWorker || isDone() || maze != mazePanel.getMaze()) return;
+
+            for (SearchMonitor.Progress progress : chunks) {
+                mazePanel.showExploration(progress.getCells());
+            }
+            SearchMonitor.Progress latest = chunks.get(chunks.size() - 1);
+            resultArea.setText("═══ " + algorithm + " ═══\n\nSearching...\n" +
+                    "  • Expanded: " + latest.getExpanded() + " nodes\n" +
+                    "  • Frontier: " + latest.getFrontierSize() + " nodes\n");
         }
 
-        if (result != null) {
-            mazePanel.showPathWithAnimation(result);
-            displayResult(result);
+        @Override
+        protected void done() {
+            if (this != searchWorker) return;
+            searchWorker = null;
+            cancelBtn.setEnabled(compareWorker != null);
+            // Hasil untuk maze yang sudah diganti tidak boleh digambar di maze baru
+            if (maze != mazePanel.getMaze()) return;
+
+            try {
+                PathResult result = get();
+                displayResult(result);
+                // Urutan expand diputar ulang dulu, baru path dianimasikan
+                mazePanel.replayTrace(monitor.getTrace(), () -> mazePanel.showPathWithAnimation(result));
+            } catch (InterruptedException | CancellationException ex) {
+                resultArea.append("Search cancelled.\n");
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof CancellationException) {
+                    // Deadline habis di dalam engine
+                    resultArea.append(ex.getCause().getMessage() + ".\n");
+                } else {
+                    resultArea.append("Search failed: " + ex.getCause() + "\n");
+                }
+            }
         }
     }
 
@@ -364,6 +549,10 @@ public class ControlPanel extends JPanel {
                     sb.append("  Finds shortest path by steps,\n");
                     sb.append("  but may not have lowest cost\n");
                     break;
+                case "BFS (JPS)":
+                    sb.append("  Uniform terrain: BFS replaced by\n");
+                    sb.append("  Jump Point Search, same path\n");
+                    break;
                 case "DFS":
                     sb.append("  Explores deeply first,\n");
                     sb.append("  not guaranteed to be optimal\n");
@@ -373,8 +562,25 @@ public class ControlPanel extends JPanel {
                     sb.append("  considers terrain cost\n");
                     break;
                 case "A*":
-                    sb.append("  Optimal & efficient,\n");
-                    sb.append("  uses smart heuristics\n");
+                    sb.append("  Lowest cost, Manhattan heuristic\n");
+                    sb.append("  x cheapest terrain cost (0 if any\n");
+                    sb.append("  Clear Path: same order as Dijkstra)\n");
+                    break;
+                case "Dial":
+                    sb.append("  Dijkstra with bucket queue,\n");
+                    sb.append("  O(1) push/pop on small costs\n");
+                    break;
+                case "Bi-BFS":
+                    sb.append("  BFS from both ends,\n");
+                    sb.append("  meets in the middle\n");
+                    break;
+                case "Bi-Dijkstra":
+                    sb.append("  Searches from both ends,\n");
+                    sb.append("  same optimal cost, less work\n");
+                    break;
+                case "HPA*":
+                    sb.append("  Searches cluster graph first,\n");
+                    sb.append("  near-optimal on huge mazes\n");
                     break;
             }
         } else {
@@ -384,14 +590,167 @@ public class ControlPanel extends JPanel {
         resultArea.setText(sb.toString());
     }
 
+    // ========== COMPARE ALL ==========
+
     private void compareAllAlgorithms() {
+        cancelSearch();
+        cancelComparison();
         allResults.clear();
 
-        allResults.add(PathFinder.findPathBFS(mazePanel.getMaze()));
-        allResults.add(PathFinder.findPathDFS(mazePanel.getMaze()));
-        allResults.add(PathFinder.findPathDijkstra(mazePanel.getMaze()));
-        allResults.add(PathFinder.findPathAStar(mazePanel.getMaze()));
+        Maze maze = mazePanel.getMaze();
+        ExecutorService executor = getCompareExecutor();
+        resultArea.setText("═══ ALGORITHM COMPARISON ═══\n\nRunning " + COMPARE_ALGORITHMS.length + " algorithms...\n\n");
+        cancelBtn.setEnabled(true);
+
+        compareWorker = new SwingWorker<List<PathResult>, PathResult>() {
+            @Override
+            protected List<PathResult> doInBackground() throws Exception {
+                CompletionService<PathResult> completion = new ExecutorCompletionService<>(executor);
+                List<Future<PathResult>> futures = new ArrayList<>();
+                List<SearchMonitor> monitors = new ArrayList<>();
+                for (String algorithm : COMPARE_ALGORITHMS) {
+                    SearchMonitor monitor = new SearchMonitor(SEARCH_TIMEOUT_MS);
+                    monitors.add(monitor);
+                    futures.add(completion.submit(() -> solve(maze, algorithm, monitor)));
+                }
+
+                try {
+                    // Hasil dikirim ke EDT sesuai urutan selesai. Algoritma yang timeout / gagal
+                    // jadi entry tersendiri, yang lain tetap jalan sampai selesai
+                    for (int i = 0; i < futures.size(); i++) {
+                        Future<PathResult> future = completion.take();
+                        publish(resultOf(future, COMPARE_ALGORITHMS[futures.indexOf(future)]));
+                    }
 
+                    // Ringkasan akhir tetap pakai urutan COMPARE_ALGORITHMS
+                    List<PathResult> results = new ArrayList<>();
+                    for (int i = 0; i < futures.size(); i++) {
+                        results.add(resultOf(futures.get(i), COMPARE_ALGORITHMS[i]));
+                    }
+                    return results;
+                } finally {
+                    // Hanya berpengaruh kalau Compare dibatalkan: engine berhenti di checkpoint berikutnya
+                    for (SearchMonitor monitor : monitors) {
+                        monitor.cancel();
+                    }
+                    for (Future<PathResult> future : futures) {
+                        future.cancel(true);
+                    }
+                }
+            }
+
+            @Override
+            protected void process(List<PathResult> chunks) {
+                if (this != compareWorker || isDone() || maze != mazePanel.getMaze()) return;
+
+                StringBuilder sb = new StringBuilder();
+                for (PathResult result : chunks) {
+                    appendComparisonEntry(sb, result, null, null, null);
+                }
+                resultArea.append(sb.toString());
+            }
+
+            @Override
+            protected void done() {
+                if (this != compareWorker) return;
+                compareWorker = null;
+                cancelBtn.setEnabled(searchWorker != null);
+                if (maze != mazePanel.getMaze()) return;
+
+                if (isCancelled()) {
+                    resultArea.append("Comparison cancelled.\n");
+                    return;
+                }
+
+                try {
+                    allResults.addAll(get());
+                    showComparison();
+                } catch (InterruptedException | CancellationException ex) {
+                    resultArea.append("Comparison cancelled.\n");
+                } catch (ExecutionException ex) {
+                    if (ex.getCause() instanceof CancellationException) {
+                        resultArea.append(ex.getCause().getMessage() + ".\n");
+                    } else {
+                        resultArea.append("Comparison failed: " + ex.getCause() + "\n");
+                    }
+                }
+            }
+        };
+        compareWorker.execute();
+    }
+
+    private static PathResult resultOf(Future<PathResult> future, String algorithm) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            // Deadline / cancel di dalam engine membawa pesan sendiri
+            String reason = cause instanceof CancellationException ? cause.getMessage() : "Failed: " + cause;
+            return new FailedResult(algorithm, reason);
+        }
+    }
+
+    // Entry Compare All untuk algoritma yang tidak selesai, path null jadi tidak ikut ranking
+    private static class FailedResult extends PathResult {
+        private final String reason;
+
+        FailedResult(String algorithm, String reason) {
+            super(null, -1, 0, algorithm);
+            this.reason = reason;
+        }
+
+        String getReason() {
+            return reason;
+        }
+    }
+
+    private void cancelComparison() {
+        if (compareWorker == null) return;
+
+        SwingWorker<List<PathResult>, PathResult> worker = compareWorker;
+        compareWorker = null;
+        worker.cancel(true);
+        cancelBtn.setEnabled(searchWorker != null);
+    }
+
+    private PathResult solve(Maze maze, String algorithm, SearchMonitor monitor) {
+        switch (algorithm) {
+            case "BFS":
+                return PathFinder.findPathBFS(maze, monitor);
+            case "DFS":
+                return PathFinder.findPathDFS(maze, monitor);
+            case "Dijkstra":
+                return PathFinder.findPathDijkstra(maze, monitor);
+            case "A*":
+                return PathFinder.findPathAStar(maze, monitor);
+            case "Dial":
+                return PathFinder.findPathDial(maze, monitor);
+            case "Bi-BFS":
+                return PathFinder.findPathBidirectionalBFS(maze, monitor);
+            case "Bi-Dijkstra":
+                return PathFinder.findPathBidirectionalDijkstra(maze, monitor);
+            case "HPA*":
+                return getHierarchicalPathFinder(maze, monitor).findPath(maze.getStart(), maze.getEnd(), monitor);
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
+    // Thread daemon, maksimal satu per core (Java tidak bisa pin thread ke core tertentu)
+    private ExecutorService getCompareExecutor() {
+        if (compareExecutor == null) {
+            int threads = Math.max(1, Math.min(COMPARE_ALGORITHMS.length, Runtime.getRuntime().availableProcessors()));
+            AtomicInteger counter = new AtomicInteger();
+            compareExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "compare-worker-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return compareExecutor;
+    }
+
+    private void showComparison() {
         PathResult bestCost = null;
         PathResult shortestPath = null;
         PathResult fastest = null;
@@ -414,33 +773,7 @@ public class ControlPanel extends JPanel {
         sb.append("═══ ALGORITHM COMPARISON ═══\n\n");
 
         for (PathResult result : allResults) {
-            sb.append("【 ").append(result.getAlgorithmName()).append(" 】\n");
-            if (result.getPath() != null) {
-                sb.append("  • Total Cost: ").append(result.getTotalCost());
-                if (result.equals(bestCost)) {
-                    sb.append(" = LOWEST COST!");
-                }
-                sb.append("\n");
-
-                sb.append("  • Path Length: ").append(result.getPathLength()).append(" steps");
-                if (result.equals(shortestPath)) {
-                    sb.append(" = SHORTEST!");
-                }
-                sb.append("\n");
-
-                sb.append("  • Exec Time: ").append(result.getExecutionTime()).append(" μs");
-                if (result.equals(fastest)) {
-                    sb.append(" = FASTEST!");
-                }
-                sb.append("\n");
-
-                double avgCost = (double) result.getTotalCost() / result.getPathLength();
-                sb.append("  • Avg Cost/Step: ").append(String.format("%.2f", avgCost)).append("\n");
-
-            } else {
-                sb.append("No path found\n");
-            }
-            sb.append("\n");
+            appendComparisonEntry(sb, result, bestCost, shortestPath, fastest);
         }
 
         if (bestCost != null) {
@@ -462,6 +795,63 @@ public class ControlPanel extends JPanel {
         resultArea.setText(sb.toString());
     }
 
+    // Marker (LOWEST COST / SHORTEST / FASTEST) null selama hasil masih masuk satu per satu
+    private void appendComparisonEntry(StringBuilder sb, PathResult result,
+                                       PathResult bestCost, PathResult shortestPath, PathResult fastest) {
+        sb.append("【 ").append(result.getAlgorithmName()).append(" 】\n");
+        if (result.getPath() != null) {
+            sb.append("  • Total Cost: ").append(result.getTotalCost());
+            if (result.equals(bestCost)) {
+                sb.append(" = LOWEST COST!");
+            }
+            sb.append("\n");
+
+            sb.append("  • Path Length: ").append(result.getPathLength()).append(" steps");
+            if (result.equals(shortestPath)) {
+                sb.append(" = SHORTEST!");
+            }
+            sb.append("\n");
+
+            sb.append("  • Exec Time: ").append(result.getExecutionTime()).append(" μs");
+            if (result.equals(fastest)) {
+                sb.append(" = FASTEST!");
+            }
+            sb.append("\n");
+
+            double avgCost = (double) result.getTotalCost() / result.getPathLength();
+            sb.append("  • Avg Cost/Step: ").append(String.format("%.2f", avgCost)).append("\n");
+
+            if (result instanceof HierarchicalPathFinder.Result) {
+                HierarchicalPathFinder.Result hierarchical = (HierarchicalPathFinder.Result) result;
+                sb.append("  • Preprocess: ").append(hierarchical.getPreprocessingTime()).append(" μs\n");
+                sb.append("  • Memory: ").append(hierarchical.getMemoryBytes() / 1024).append(" KB (")
+                        .append(hierarchical.getNodeCount()).append(" nodes)\n");
+            }
+
+        } else if (result instanceof FailedResult) {
+            sb.append("  • ").append(((FailedResult) result).getReason()).append("\n");
+        } else {
+            sb.append("No path found\n");
+        }
+        sb.append("\n");
+    }
+
+    // Abstraksi HPA* dibangun sekali per maze. Edit cell hanya membangun ulang cluster di sekitarnya
+    // (refresh), build penuh hanya untuk maze baru. Synchronized karena Compare All memanggilnya dari
+    // worker thread. Build ikut monitor search, jadi Cancel / deadline juga menghentikan preprocessing
+    private synchronized HierarchicalPathFinder getHierarchicalPathFinder(Maze maze, SearchMonitor monitor) {
+        if (hierarchicalPathFinder == null || hierarchicalPathFinder.getMaze() != maze) {
+            if (hierarchicalPathFinder != null) {
+                hierarchicalPathFinder.detach();
+            }
+            hierarchicalPathFinder = new HierarchicalPathFinder(maze,
+                    HierarchicalPathFinder.DEFAULT_CLUSTER_SIZE, monitor);
+        } else if (!hierarchicalPathFinder.isValid()) {
+            hierarchicalPathFinder.refresh(monitor);
+        }
+        return hierarchicalPathFinder;
+    }
+
     private Color brighten(Color color) {
         int r = Math.min(255, color.getRed() + 30);
         int g = Math.min(255, color.getGreen() + 30);
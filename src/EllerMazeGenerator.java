@@ -0,0 +1,130 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class EllerMazeGenerator {
+
+    // Eller's algorithm: maze sempurna dibuat baris demi baris, memori O(cols) berapa pun tingginya.
+    // Layout sama dengan Maze.generateMaze: cell di row/col ganjil, tembok di antaranya, border tembok.
+    // Setiap baris cell dikirim ke sink sebagai dua baris grid: baris cell lalu baris tembok di bawahnya
+    private static final double JOIN_CHANCE = 0.5;
+    private static final double DOWN_CHANCE = 0.5;
+
+    private final long rows;
+    private final int cols;
+    private final long seed;
+
+    public EllerMazeGenerator(long rows, int cols, long seed) {
+        if (rows < 3 || cols < 3) {
+            throw new IllegalArgumentException("Maze too small: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.seed = seed;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Carve langsung ke store (ukuran harus sama), lalu jadikan Maze lengkap dengan start, end dan terrain
+    public Maze generateMaze(MazeStore store) {
+        if (store.getRows() != rows || store.getCols() != cols) {
+            throw new IllegalArgumentException("Store size " + store.getRows() + "x" + store.getCols()
+                    + " does not match generator " + rows + "x" + cols);
+        }
+        generate(MazeRowSink.into(store));
+        return Maze.fromCarvedStore(store, seed);
+    }
+
+    public void generate(MazeRowSink sink) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long height = (rows - 1) / 2;
+        int width = (cols - 1) / 2;
+
+        // Set id selalu < width: id = kolom salah satu anggota, jadi union-find cukup satu array per baris
+        int[] set = new int[width];
+        int[] parent = new int[width];
+        int[] remaining = new int[width];
+        int[] label = new int[width];
+        boolean[] down = new boolean[width];
+        boolean[] walls = new boolean[cols];
+
+        for (int c = 0; c < width; c++) {
+            set[c] = c;
+        }
+
+        Arrays.fill(walls, true);
+        sink.acceptRow(0, walls);
+
+        for (long r = 0; r < height; r++) {
+            boolean lastRow = r == height - 1;
+            for (int c = 0; c < width; c++) {
+                parent[c] = c;
+            }
+
+            // Baris cell: gabungkan tetangga kiri-kanan yang beda set (baris terakhir: wajib)
+            Arrays.fill(walls, true);
+            walls[1] = false;
+            for (int c = 1; c < width; c++) {
+                walls[2 * c + 1] = false;
+                int left = find(parent, set[c - 1]);
+                int right = find(parent, set[c]);
+                if (left != right && (lastRow || random.nextDouble() < JOIN_CHANCE)) {
+                    parent[right] = left;
+                    walls[2 * c] = false;
+                }
+            }
+            sink.acceptRow(2 * r + 1, walls);
+
+            // Baris tembok: tiap set turun minimal sekali, cell terakhir set dipaksa turun kalau belum
+            Arrays.fill(walls, true);
+            if (!lastRow) {
+                for (int c = 0; c < width; c++) {
+                    set[c] = find(parent, set[c]);
+                    remaining[set[c]]++;
+                    down[set[c]] = false;
+                    label[set[c]] = -1;
+                }
+                for (int c = 0; c < width; c++) {
+                    int root = set[c];
+                    remaining[root]--;
+                    if (random.nextDouble() < DOWN_CHANCE || (remaining[root] == 0 && !down[root])) {
+                        down[root] = true;
+                        walls[2 * c + 1] = false;
+                        if (label[root] < 0) label[root] = c;
+                        set[c] = label[root];
+                    } else {
+                        // Cell baru di baris berikutnya: kolom ini belum dipakai sebagai id set yang turun
+                        set[c] = -1;
+                    }
+                }
+                for (int c = 0; c < width; c++) {
+                    if (set[c] < 0) set[c] = c;
+                }
+            }
+            sink.acceptRow(2 * r + 2, walls);
+        }
+
+        // Baris sisa kalau rows genap (sama seperti Maze.generateMaze, tetap tembok)
+        Arrays.fill(walls, true);
+        for (long r = 2 * height + 1; r < rows; r++) {
+            sink.acceptRow(r, walls);
+        }
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
@@ -0,0 +1,69 @@
+import java.util.Arrays;
+
+public class ExplorationTrace {
+
+    // Urutan cell yang di-expand search, disimpan sebagai index (row * cols + col) di int[].
+    // Cell dikelompokkan per frame: frame ditutup otomatis setiap frameSize cell, atau lebih awal
+    // lewat endFrame() (misal akhir satu level BFS). Tidak ada objek Cell yang disentuh saat merekam
+    public static final int DEFAULT_FRAME_SIZE = 8;
+
+    private final int frameSize;
+    private int[] cells = new int[256];
+    private int cellCount;
+    private int[] frameEnds = new int[64];
+    private int frameCount;
+
+    public ExplorationTrace() {
+        this(DEFAULT_FRAME_SIZE);
+    }
+
+    public ExplorationTrace(int frameSize) {
+        this.frameSize = frameSize;
+    }
+
+    public void record(int cell) {
+        if (cellCount == cells.length) cells = Arrays.copyOf(cells, cellCount * 2);
+        cells[cellCount++] = cell;
+
+        if (cellCount - frameStart(frameCount) == frameSize) endFrame();
+    }
+
+    // Tutup frame sekarang, tidak melakukan apa-apa kalau frame masih kosong
+    public void endFrame() {
+        if (cellCount == frameStart(frameCount)) return;
+        if (frameCount == frameEnds.length) frameEnds = Arrays.copyOf(frameEnds, frameCount * 2);
+        frameEnds[frameCount++] = cellCount;
+    }
+
+    public void clear() {
+        cellCount = 0;
+        frameCount = 0;
+    }
+
+    // ========== READ ==========
+
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    public int getCell(int i) {
+        return cells[i];
+    }
+
+    // Frame terakhir yang belum ditutup ikut dihitung
+    public int getFrameCount() {
+        return cellCount > frameStart(frameCount) ? frameCount + 1 : frameCount;
+    }
+
+    public int frameStart(int frame) {
+        return frame == 0 ? 0 : frameEnds[frame - 1];
+    }
+
+    public int frameEnd(int frame) {
+        return frame < frameCount ? frameEnds[frame] : cellCount;
+    }
+
+    public long getMemoryBytes() {
+        return 4L * (cells.length + frameEnds.length);
+    }
+}
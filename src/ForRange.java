@@ -0,0 +1,30 @@
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+public class ForRange extends RecursiveAction {
+
+    // body dijalankan untuk setiap index di [from, to), dibagi dua terus sampai satu index per task.
+    // Dipakai untuk kerja paralel per tile / per band di ForkJoinPool
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+    private final int to;
+    private final IntConsumer body;
+
+    public ForRange(int from, int to, IntConsumer body) {
+        this.from = from;
+        this.to = to;
+        this.body = body;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= 1) {
+            if (from < to) body.accept(from);
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        invokeAll(new ForRange(from, middle, body), new ForRange(middle, to, body));
+    }
+}
@@ -0,0 +1,117 @@
+import java.util.*;
+
+public class GoalDistanceField {
+
+    // Satu Dijkstra mundur dari end, hasilnya jarak ke end + langkah berikutnya untuk setiap cell.
+    // Query dari start mana pun tinggal ikuti nextHop, O(panjang path) tanpa search
+    private static final int UNREACHABLE = -1;
+    private static final int NO_NEXT = -1;
+
+    private final Maze maze;
+    private int[] distance;
+    private int[] nextHop;
+    private int goal = -1;
+    private int builtVersion = -1;
+    private long buildTime;
+
+    public GoalDistanceField(Maze maze) {
+        this.maze = maze;
+    }
+
+    // Field dibangun ulang kalau maze sudah di-generate ulang, terrain berubah, atau end pindah
+    public boolean isValid() {
+        return distance != null
+                && distance.length == maze.size()
+                && builtVersion == maze.getVersion()
+                && goal == maze.indexOf(maze.getEnd());
+    }
+
+    public void invalidate() {
+        builtVersion = -1;
+    }
+
+    public int distanceFrom(Cell cell) {
+        ensureBuilt();
+        return distance[maze.indexOf(cell)];
+    }
+
+    public PathResult findPath() {
+        return findPathFrom(maze.getStart());
+    }
+
+    public PathResult findPathFrom(Cell start) {
+        ensureBuilt();
+        long startTime = System.nanoTime();
+
+        int current = maze.indexOf(start);
+        int totalCost = distance[current];
+        List<Cell> path = null;
+
+        if (totalCost != UNREACHABLE) {
+            path = new ArrayList<>();
+            for (; current != NO_NEXT; current = nextHop[current]) {
+                path.add(maze.getCell(current));
+            }
+        }
+
+        long executionTime = (System.nanoTime() - startTime) / 1000;
+        return new PathResult(path, totalCost, executionTime, "Goal Field");
+    }
+
+    // Waktu build terakhir dalam μs
+    public long getBuildTime() {
+        return buildTime;
+    }
+
+    private void ensureBuilt() {
+        if (!isValid()) {
+            build();
+        }
+    }
+
+    private void build() {
+        long startTime = System.nanoTime();
+
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int size = rows * cols;
+
+        if (distance == null || distance.length != size) {
+            distance = new int[size];
+            nextHop = new int[size];
+        }
+        Arrays.fill(distance, UNREACHABLE);
+
+        goal = maze.indexOf(maze.getEnd());
+        BitSet closed = new BitSet(size);
+        BucketQueue open = new BucketQueue(size, CellType.getMaxCost());
+
+        distance[goal] = 0;
+        nextHop[goal] = NO_NEXT;
+        open.push(goal, 0);
+
+        // Edge u -> v bernilai cost(v), jadi dari x mundur ke tetangga y menambah cost(x)
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            closed.set(current);
+
+            int row = current / cols;
+            int col = current % cols;
+            int newCost = distance[current] + maze.getCost(current);
+
+            for (int d = 0; d < 4; d++) {
+                int neighbor = GridSearch.neighborOf(current, row, col, d, rows, cols);
+                if (neighbor < 0 || closed.get(neighbor) || !maze.isOpen(neighbor)) continue;
+
+                if (distance[neighbor] == UNREACHABLE || newCost < distance[neighbor]) {
+                    distance[neighbor] = newCost;
+                    nextHop[neighbor] = current;
+                    open.pushOrDecrease(neighbor, newCost);
+                }
+            }
+        }
+
+        builtVersion = maze.getVersion();
+        buildTime = (System.nanoTime() - startTime) / 1000;
+    }
+}
@@ -0,0 +1,183 @@
+import java.util.*;
+
+public class GridSearch {
+
+    // Cell dinomori row * cols + col, semua state search disimpan di array primitif
+    private static final int NO_PARENT = SearchWorkspace.NO_PARENT;
+
+    public static PathResult dijkstra(Maze maze) {
+        return dijkstra(maze, SearchWorkspace.forThread(maze));
+    }
+
+    public static PathResult aStar(Maze maze) {
+        return aStar(maze, SearchWorkspace.forThread(maze));
+    }
+
+    // Dial's algorithm: cost terrain kecil (0..10), jadi bucket queue menggantikan heap
+    public static PathResult dial(Maze maze) {
+        return dial(maze, SearchWorkspace.forThread(maze));
+    }
+
+    // Workspace dari caller dipakai ulang, counter heap bisa dibaca lewat workspace.getHeap()
+    public static PathResult dijkstra(Maze maze, SearchWorkspace workspace) {
+        return dijkstra(maze, workspace, SearchMonitor.NONE);
+    }
+
+    public static PathResult aStar(Maze maze, SearchWorkspace workspace) {
+        return aStar(maze, workspace, SearchMonitor.NONE);
+    }
+
+    public static PathResult dial(Maze maze, SearchWorkspace workspace) {
+        return dial(maze, workspace, SearchMonitor.NONE);
+    }
+
+    // Dengan monitor: progress per batch, bisa dibatalkan (CancellationException)
+    public static PathResult dijkstra(Maze maze, SearchWorkspace workspace, SearchMonitor monitor) {
+        long startTime = System.nanoTime();
+        int end = maze.indexOf(maze.getEnd());
+        int cost = shortestCost(maze, workspace, maze.indexOf(maze.getStart()), end, false, monitor);
+        return toResult(maze, workspace, end, cost, startTime, "Dijkstra");
+    }
+
+    public static PathResult aStar(Maze maze, SearchWorkspace workspace, SearchMonitor monitor) {
+        long startTime = System.nanoTime();
+        int end = maze.indexOf(maze.getEnd());
+        int cost = shortestCost(maze, workspace, maze.indexOf(maze.getStart()), end, true, monitor);
+        return toResult(maze, workspace, end, cost, startTime, "A*");
+    }
+
+    public static PathResult dial(Maze maze, SearchWorkspace workspace, SearchMonitor monitor) {
+        long startTime = System.nanoTime();
+        int end = maze.indexOf(maze.getEnd());
+        int cost = dialCost(maze, workspace, maze.indexOf(maze.getStart()), end, monitor);
+        return toResult(maze, workspace, end, cost, startTime, "Dial");
+    }
+
+    // ========== ALLOCATION-FREE CORE ==========
+    // Return cost start -> end atau -1. Path bisa diambil lewat workspace.copyPath(end, buffer)
+
+    public static int shortestCost(Maze maze, SearchWorkspace workspace, int start, int end, boolean useHeuristic) {
+        return shortestCost(maze, workspace, start, end, useHeuristic, SearchMonitor.NONE);
+    }
+
+    public static int shortestCost(Maze maze, SearchWorkspace workspace, int start, int end, boolean useHeuristic,
+                                   SearchMonitor monitor) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int endRow = end / cols;
+        int endCol = end % cols;
+        // Tanpa skala, cell EMPTY (cost 0) membuat Manhattan melebihi cost sisa dan A* bisa
+        // melewatkan path termurah di maze yang punya loop
+        int heuristicScale = useHeuristic ? maze.getMinOpenCost() : 0;
+
+        workspace.reset();
+        IndexedHeap open = workspace.getHeap();
+
+        workspace.update(start, 0, NO_PARENT);
+        open.push(start, heuristicScale * manhattan(start, endRow, endCol, cols));
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            workspace.close(current);
+            monitor.expanded(current, open.size());
+
+            if (current == end) {
+                return workspace.getDistance(end);
+            }
+
+            int row = current / cols;
+            int col = current % cols;
+            int currentCost = workspace.getDistance(current);
+
+            for (int d = 0; d < 4; d++) {
+                int neighbor = neighborOf(current, row, col, d, rows, cols);
+                if (neighbor < 0 || workspace.isClosed(neighbor) || !maze.isOpen(neighbor)) continue;
+
+                int newCost = currentCost + maze.getCost(neighbor);
+                if (newCost < workspace.getDistance(neighbor)) {
+                    workspace.update(neighbor, newCost, current);
+                    open.pushOrDecrease(neighbor, newCost + heuristicScale * manhattan(neighbor, endRow, endCol, cols));
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    public static int dialCost(Maze maze, SearchWorkspace workspace, int start, int end) {
+        return dialCost(maze, workspace, start, end, SearchMonitor.NONE);
+    }
+
+    public static int dialCost(Maze maze, SearchWorkspace workspace, int start, int end, SearchMonitor monitor) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+
+        workspace.reset();
+        BucketQueue open = workspace.getBuckets();
+
+        workspace.update(start, 0, NO_PARENT);
+        open.push(start, 0);
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            workspace.close(current);
+            monitor.expanded(current, open.size());
+
+            if (current == end) {
+                return workspace.getDistance(end);
+            }
+
+            int row = current / cols;
+            int col = current % cols;
+            int currentCost = workspace.getDistance(current);
+
+            for (int d = 0; d < 4; d++) {
+                int neighbor = neighborOf(current, row, col, d, rows, cols);
+                if (neighbor < 0 || workspace.isClosed(neighbor) || !maze.isOpen(neighbor)) continue;
+
+                int newCost = currentCost + maze.getCost(neighbor);
+                if (newCost < workspace.getDistance(neighbor)) {
+                    workspace.update(neighbor, newCost, current);
+                    open.pushOrDecrease(neighbor, newCost);
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    private static PathResult toResult(Maze maze, SearchWorkspace workspace, int end, int cost,
+                                       long startTime, String algorithmName) {
+        List<Cell> path = cost >= 0 ? buildPath(maze, workspace, end) : null;
+        long executionTime = (System.nanoTime() - startTime) / 1000;
+        return new PathResult(path, cost, executionTime, algorithmName);
+    }
+
+    // Urutan arah sama dengan Maze.getNeighbors: atas, bawah, kiri, kanan
+    static int neighborOf(int index, int row, int col, int direction, int rows, int cols) {
+        switch (direction) {
+            case 0:
+                return row > 0 ? index - cols : -1;
+            case 1:
+                return row < rows - 1 ? index + cols : -1;
+            case 2:
+                return col > 0 ? index - 1 : -1;
+            default:
+                return col < cols - 1 ? index + 1 : -1;
+        }
+    }
+
+    static int manhattan(int index, int endRow, int endCol, int cols) {
+        return Math.abs(index / cols - endRow) + Math.abs(index % cols - endCol);
+    }
+
+    // Path start..end dari parent di workspace
+    static List<Cell> buildPath(Maze maze, SearchWorkspace workspace, int end) {
+        List<Cell> path = new ArrayList<>();
+        for (int current = end; current != NO_PARENT; current = workspace.getParent(current)) {
+            path.add(maze.getCell(current));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
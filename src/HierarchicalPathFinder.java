@@ -0,0 +1,586 @@
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class HierarchicalPathFinder implements MazeListener {
+
+    // HPA*: grid dibagi cluster clusterSize x clusterSize. Di setiap batas cluster, tiap run cell terbuka
+    // yang bersebelahan dapat satu entrance (cell tengah run). Cost antar entrance dalam satu cluster
+    // dihitung di awal, query cukup search graph abstrak lalu refine cluster yang dilewati saja.
+    // findPath aman dipanggil paralel: workspace search per thread, graph abstrak hanya dibaca.
+    // Edit lewat Maze.setWall / setTerrain dicatat sebagai area kotor, refresh() membangun ulang
+    // area itu saja (rebuildRegion). rebuildRegion memegang write lock, jadi menunggu query yang
+    // sedang jalan dan menahan query baru
+    public static final int DEFAULT_CLUSTER_SIZE = 32;
+
+    // Arah sama dengan GridSearch.neighborOf: atas, bawah, kiri, kanan
+    private static final int UP = 0;
+    private static final int DOWN = 1;
+    private static final int LEFT = 2;
+    private static final int RIGHT = 3;
+
+    private final Maze maze;
+    private final int clusterSize;
+    private final int clusterRows;
+    private final int clusterCols;
+
+    private final int[][] clusterNodes;   // cell index entrance per cluster
+    private final byte[][] clusterMasks;  // bit arah tetangga di cluster sebelah
+    private final int[][] clusterCosts;   // matriks cost entrance i -> j dalam cluster, -1 kalau tidak tersambung
+
+    private int[] nodeOffset;             // id node abstrak = nodeOffset[cluster] + posisi
+    private int[] nodeCluster;
+    private int nodeTotal;
+
+    private final ThreadLocal<SearchWorkspace> localSpaces;
+    private final ThreadLocal<SearchWorkspace> abstractSpaces = new ThreadLocal<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int builtVersion;
+    private long preprocessingTime;
+
+    // Bounding box cell yang berubah sejak build terakhir, dirtyMinRow < 0 kalau bersih.
+    // Ditulis dari thread yang mengedit maze, jadi dijaga monitor dirtyLock, bukan lock query
+    private final Object dirtyLock = new Object();
+    private int dirtyMinRow = -1;
+    private int dirtyMinCol;
+    private int dirtyMaxRow;
+    private int dirtyMaxCol;
+    private boolean fullRebuild;
+
+    public HierarchicalPathFinder(Maze maze) {
+        this(maze, DEFAULT_CLUSTER_SIZE);
+    }
+
+    public HierarchicalPathFinder(Maze maze, int clusterSize) {
+        this(maze, clusterSize, SearchMonitor.NONE);
+    }
+
+    // Monitor dicek per cluster dan per search di dalam cluster, jadi build di maze besar bisa dibatalkan
+    public HierarchicalPathFinder(Maze maze, int clusterSize, SearchMonitor monitor) {
+        long startTime = System.nanoTime();
+
+        this.maze = maze;
+        this.clusterSize = clusterSize;
+        this.clusterRows = (maze.getRows() + clusterSize - 1) / clusterSize;
+        this.clusterCols = (maze.getCols() + clusterSize - 1) / clusterSize;
+
+        int clusterCount = clusterRows * clusterCols;
+        this.clusterNodes = new int[clusterCount][];
+        this.clusterMasks = new byte[clusterCount][];
+        this.clusterCosts = new int[clusterCount][];
+        this.localSpaces = ThreadLocal.withInitial(() -> new SearchWorkspace(clusterSize * clusterSize));
+
+        buildAll(monitor);
+        preprocessingTime = (System.nanoTime() - startTime) / 1000;
+        maze.addListener(this);
+    }
+
+    // Lepas listener kalau finder tidak dipakai lagi
+    public void detach() {
+        maze.removeListener(this);
+    }
+
+    public Maze getMaze() {
+        return maze;
+    }
+
+    // ========== MAZE LISTENER ==========
+
+    @Override
+    public void cellChanged(Maze maze, int index) {
+        int row = index / maze.getCols();
+        int col = index % maze.getCols();
+        synchronized (dirtyLock) {
+            if (dirtyMinRow < 0) {
+                dirtyMinRow = dirtyMaxRow = row;
+                dirtyMinCol = dirtyMaxCol = col;
+            } else {
+                dirtyMinRow = Math.min(dirtyMinRow, row);
+                dirtyMaxRow = Math.max(dirtyMaxRow, row);
+                dirtyMinCol = Math.min(dirtyMinCol, col);
+                dirtyMaxCol = Math.max(dirtyMaxCol, col);
+            }
+        }
+    }
+
+    @Override
+    public void mazeRegenerated(Maze maze) {
+        synchronized (dirtyLock) {
+            fullRebuild = true;
+        }
+    }
+
+    // Samakan abstraksi dengan maze: area kotor lewat rebuildRegion, semua cluster setelah
+    // generateMaze. Monitor hanya dipakai build penuh; kalau dibatalkan, state kotor tetap ada
+    // dan refresh berikutnya mengulang
+    public void refresh(SearchMonitor monitor) {
+        boolean full;
+        int minRow, minCol, maxRow, maxCol;
+        synchronized (dirtyLock) {
+            full = fullRebuild;
+            minRow = dirtyMinRow;
+            minCol = dirtyMinCol;
+            maxRow = dirtyMaxRow;
+            maxCol = dirtyMaxCol;
+            fullRebuild = false;
+            dirtyMinRow = -1;
+        }
+        // Versi berubah tanpa event tercatat (edit saat konstruktor masih jalan): build penuh
+        if (!full && minRow < 0) {
+            full = !isValid();
+        }
+
+        if (full) {
+            lock.writeLock().lock();
+            try {
+                long startTime = System.nanoTime();
+                buildAll(monitor);
+                preprocessingTime = (System.nanoTime() - startTime) / 1000;
+            } catch (RuntimeException e) {
+                mazeRegenerated(maze);
+                throw e;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } else if (minRow >= 0) {
+            rebuildRegion(minRow, minCol, maxRow, maxCol);
+        }
+    }
+
+    private void buildAll(SearchMonitor monitor) {
+        for (int k = 0; k < clusterNodes.length; k++) {
+            monitor.checkpoint();
+            buildCluster(k, monitor);
+        }
+        indexNodes();
+        builtVersion = maze.getVersion();
+    }
+
+    public boolean isValid() {
+        lock.readLock().lock();
+        try {
+            return builtVersion == maze.getVersion();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Bangun ulang cluster yang menyentuh area berubah plus tetangganya (entrance di batas ikut berubah)
+    public void rebuildRegion(int fromRow, int fromCol, int toRow, int toCol) {
+        lock.writeLock().lock();
+        try {
+            rebuildClusters(fromRow, fromCol, toRow, toCol);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rebuildClusters(int fromRow, int fromCol, int toRow, int toCol) {
+        long startTime = System.nanoTime();
+
+        int minRow = Math.max(0, Math.min(fromRow, toRow) / clusterSize - 1);
+        int maxRow = Math.min(clusterRows - 1, Math.max(fromRow, toRow) / clusterSize + 1);
+        int minCol = Math.max(0, Math.min(fromCol, toCol) / clusterSize - 1);
+        int maxCol = Math.min(clusterCols - 1, Math.max(fromCol, toCol) / clusterSize + 1);
+
+        for (int cr = minRow; cr <= maxRow; cr++) {
+            for (int cc = minCol; cc <= maxCol; cc++) {
+                buildCluster(cr * clusterCols + cc, SearchMonitor.NONE);
+            }
+        }
+        indexNodes();
+
+        builtVersion = maze.getVersion();
+        preprocessingTime = (System.nanoTime() - startTime) / 1000;
+    }
+
+    // ========== PREPROCESSING ==========
+
+    private void buildCluster(int k, SearchMonitor monitor) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int r0 = (k / clusterCols) * clusterSize;
+        int c0 = (k % clusterCols) * clusterSize;
+        int r1 = Math.min(rows, r0 + clusterSize);
+        int c1 = Math.min(cols, c0 + clusterSize);
+
+        int[] nodes = new int[16];
+        byte[] masks = new byte[16];
+        int count = 0;
+
+        // Satu sisi = satu garis pasangan (cell di cluster ini, cell di cluster sebelah)
+        for (int side = 0; side < 4; side++) {
+            boolean horizontalLine = side == UP || side == DOWN;
+            if (side == UP && r0 == 0) continue;
+            if (side == DOWN && r1 == rows) continue;
+            if (side == LEFT && c0 == 0) continue;
+            if (side == RIGHT && c1 == cols) continue;
+
+            int fixed = side == UP ? r0 : side == DOWN ? r1 - 1 : side == LEFT ? c0 : c1 - 1;
+            int from = horizontalLine ? c0 : r0;
+            int to = horizontalLine ? c1 : r1;
+
+            int runStart = -1;
+            for (int i = from; i <= to; i++) {
+                boolean pairOpen = false;
+                if (i < to) {
+                    int inside = horizontalLine ? fixed * cols + i : i * cols + fixed;
+                    int outside = horizontalLine
+                            ? (side == UP ? inside - cols : inside + cols)
+                            : (side == LEFT ? inside - 1 : inside + 1);
+                    pairOpen = maze.isOpen(inside) && maze.isOpen(outside);
+                }
+
+                if (pairOpen && runStart < 0) {
+                    runStart = i;
+                } else if (!pairOpen && runStart >= 0) {
+                    int middle = (runStart + i - 1) / 2;
+                    int cell = horizontalLine ? fixed * cols + middle : middle * cols + fixed;
+
+                    int pos = find(nodes, count, cell);
+                    if (pos < 0) {
+                        if (count == nodes.length) {
+                            nodes = Arrays.copyOf(nodes, count * 2);
+                            masks = Arrays.copyOf(masks, count * 2);
+                        }
+                        pos = count++;
+                        nodes[pos] = cell;
+                    }
+                    masks[pos] |= (byte) (1 << side);
+                    runStart = -1;
+                }
+            }
+        }
+
+        nodes = Arrays.copyOf(nodes, count);
+        int[] costs = new int[count * count];
+        SearchWorkspace local = localSpaces.get();
+        for (int i = 0; i < count; i++) {
+            searchCluster(local, nodes[i], k, false, monitor);
+            for (int j = 0; j < count; j++) {
+                costs[i * count + j] = local.getDistance(toLocal(nodes[j], k)) == SearchWorkspace.INF
+                        ? -1 : local.getDistance(toLocal(nodes[j], k));
+            }
+        }
+
+        clusterNodes[k] = nodes;
+        clusterMasks[k] = Arrays.copyOf(masks, count);
+        clusterCosts[k] = costs;
+    }
+
+    private void indexNodes() {
+        int clusterCount = clusterNodes.length;
+        nodeOffset = new int[clusterCount + 1];
+        for (int k = 0; k < clusterCount; k++) {
+            nodeOffset[k + 1] = nodeOffset[k] + clusterNodes[k].length;
+        }
+        nodeTotal = nodeOffset[clusterCount];
+
+        nodeCluster = new int[nodeTotal];
+        for (int k = 0; k < clusterCount; k++) {
+            Arrays.fill(nodeCluster, nodeOffset[k], nodeOffset[k + 1], k);
+        }
+    }
+
+    // +2 untuk node sementara start dan end. Dibuat ulang kalau rebuildRegion menambah node
+    private SearchWorkspace abstractSpace() {
+        SearchWorkspace space = abstractSpaces.get();
+        if (space == null || space.getCapacity() < nodeTotal + 2) {
+            space = new SearchWorkspace(nodeTotal + 2);
+            abstractSpaces.set(space);
+        }
+        return space;
+    }
+
+    // Dijkstra dibatasi satu cluster, index lokal = (row - r0) * clusterSize + (col - c0).
+    // Reverse = cost menuju source (untuk end), bukan dari source
+    private void searchCluster(SearchWorkspace local, int source, int k, boolean reverse, SearchMonitor monitor) {
+        monitor.checkpoint();
+        int cols = maze.getCols();
+        int r0 = (k / clusterCols) * clusterSize;
+        int c0 = (k % clusterCols) * clusterSize;
+        int r1 = Math.min(maze.getRows(), r0 + clusterSize);
+        int c1 = Math.min(cols, c0 + clusterSize);
+
+        local.reset();
+        IndexedHeap open = local.getHeap();
+        int start = toLocal(source, k);
+        local.update(start, 0, SearchWorkspace.NO_PARENT);
+        open.push(start, 0);
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            local.close(current);
+
+            int row = r0 + current / clusterSize;
+            int col = c0 + current % clusterSize;
+            int cell = row * cols + col;
+            int currentCost = local.getDistance(current);
+
+            for (int d = 0; d < 4; d++) {
+                int nRow = row + (d == UP ? -1 : d == DOWN ? 1 : 0);
+                int nCol = col + (d == LEFT ? -1 : d == RIGHT ? 1 : 0);
+                if (nRow < r0 || nRow >= r1 || nCol < c0 || nCol >= c1) continue;
+
+                int neighborCell = nRow * cols + nCol;
+                int neighbor = (nRow - r0) * clusterSize + (nCol - c0);
+                if (local.isClosed(neighbor) || !maze.isOpen(neighborCell)) continue;
+
+                int newCost = currentCost + maze.getCost(reverse ? cell : neighborCell);
+                if (newCost < local.getDistance(neighbor)) {
+                    local.update(neighbor, newCost, current);
+                    open.pushOrDecrease(neighbor, newCost);
+                }
+            }
+        }
+    }
+
+    private int toLocal(int cell, int k) {
+        int cols = maze.getCols();
+        int r0 = (k / clusterCols) * clusterSize;
+        int c0 = (k % clusterCols) * clusterSize;
+        return (cell / cols - r0) * clusterSize + (cell % cols - c0);
+    }
+
+    private int toCell(int localIndex, int k) {
+        int r0 = (k / clusterCols) * clusterSize;
+        int c0 = (k % clusterCols) * clusterSize;
+        return (r0 + localIndex / clusterSize) * maze.getCols() + c0 + localIndex % clusterSize;
+    }
+
+    private int clusterOf(int cell) {
+        int cols = maze.getCols();
+        return (cell / cols / clusterSize) * clusterCols + (cell % cols) / clusterSize;
+    }
+
+    private static int find(int[] nodes, int count, int cell) {
+        for (int i = 0; i < count; i++) {
+            if (nodes[i] == cell) return i;
+        }
+        return -1;
+    }
+
+    // ========== QUERY ==========
+
+    // Stats abstraksi dicatat saat query (di bawah read lock), jadi tetap milik instance yang
+    // menjalankan search walaupun finder diganti atau rebuildRegion jalan sesudahnya
+    public static class Result extends PathResult {
+        private final long preprocessingTime;
+        private final long memoryBytes;
+        private final int nodeCount;
+
+        private Result(List<Cell> path, int totalCost, long executionTime, HierarchicalPathFinder finder) {
+            super(path, totalCost, executionTime, "HPA*");
+            this.preprocessingTime = finder.preprocessingTime;
+            this.memoryBytes = finder.memoryBytes();
+            this.nodeCount = finder.nodeTotal;
+        }
+
+        public long getPreprocessingTime() {
+            return preprocessingTime;
+        }
+
+        public long getMemoryBytes() {
+            return memoryBytes;
+        }
+
+        public int getNodeCount() {
+            return nodeCount;
+        }
+    }
+
+    public PathResult findPath() {
+        return findPath(maze.getStart(), maze.getEnd());
+    }
+
+    public PathResult findPath(Cell startCell, Cell endCell) {
+        return findPath(startCell, endCell, SearchMonitor.NONE);
+    }
+
+    // Monitor hanya melihat entrance yang di-expand di graph abstrak
+    public PathResult findPath(Cell startCell, Cell endCell, SearchMonitor monitor) {
+        lock.readLock().lock();
+        try {
+            return search(startCell, endCell, monitor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private PathResult search(Cell startCell, Cell endCell, SearchMonitor monitor) {
+        long startTime = System.nanoTime();
+        SearchWorkspace local = localSpaces.get();
+
+        int start = maze.indexOf(startCell);
+        int end = maze.indexOf(endCell);
+        int startCluster = clusterOf(start);
+        int endCluster = clusterOf(end);
+
+        // Sambungkan start dan end ke entrance cluster masing-masing
+        int[] startNodes = clusterNodes[startCluster];
+        int[] startCosts = new int[startNodes.length];
+        searchCluster(local, start, startCluster, false, monitor);
+        for (int i = 0; i < startNodes.length; i++) {
+            startCosts[i] = distanceOrMinus(local.getDistance(toLocal(startNodes[i], startCluster)));
+        }
+        int direct = startCluster == endCluster ? distanceOrMinus(local.getDistance(toLocal(end, endCluster))) : -1;
+
+        int[] endNodes = clusterNodes[endCluster];
+        int[] endCosts = new int[endNodes.length];
+        searchCluster(local, end, endCluster, true, monitor);
+        for (int i = 0; i < endNodes.length; i++) {
+            endCosts[i] = distanceOrMinus(local.getDistance(toLocal(endNodes[i], endCluster)));
+        }
+
+        // Dijkstra di graph abstrak
+        int sourceNode = nodeTotal;
+        int targetNode = nodeTotal + 1;
+        SearchWorkspace space = abstractSpace();
+        space.reset();
+        IndexedHeap open = space.getHeap();
+        space.update(sourceNode, 0, SearchWorkspace.NO_PARENT);
+        open.push(sourceNode, 0);
+
+        while (!open.isEmpty()) {
+            int u = open.pop();
+            space.close(u);
+            if (u == targetNode) break;
+
+            int cost = space.getDistance(u);
+
+            if (u == sourceNode) {
+                for (int i = 0; i < startNodes.length; i++) {
+                    if (startCosts[i] >= 0) relax(space, u, nodeOffset[startCluster] + i, cost + startCosts[i]);
+                }
+                if (direct >= 0) relax(space, u, targetNode, cost + direct);
+                continue;
+            }
+
+            int k = nodeCluster[u];
+            int i = u - nodeOffset[k];
+            int[] nodes = clusterNodes[k];
+            int n = nodes.length;
+
+            for (int j = 0; j < n; j++) {
+                int intra = clusterCosts[k][i * n + j];
+                if (j != i && intra >= 0) relax(space, u, nodeOffset[k] + j, cost + intra);
+            }
+
+            int cell = nodes[i];
+            monitor.expanded(cell, open.size());
+            int row = cell / maze.getCols();
+            int col = cell % maze.getCols();
+            for (int d = 0; d < 4; d++) {
+                if ((clusterMasks[k][i] & (1 << d)) == 0) continue;
+                int other = GridSearch.neighborOf(cell, row, col, d, maze.getRows(), maze.getCols());
+                int otherCluster = clusterOf(other);
+                int j = find(clusterNodes[otherCluster], clusterNodes[otherCluster].length, other);
+                relax(space, u, nodeOffset[otherCluster] + j, cost + maze.getCost(other));
+            }
+
+            if (k == endCluster && endCosts[i] >= 0) {
+                relax(space, u, targetNode, cost + endCosts[i]);
+            }
+        }
+
+        if (space.getDistance(targetNode) == SearchWorkspace.INF) {
+            long executionTime = (System.nanoTime() - startTime) / 1000;
+            return new Result(null, -1, executionTime, this);
+        }
+        int totalCost = space.getDistance(targetNode);
+
+        // Urutan cell di graph abstrak: start, entrance..., end
+        int[] route = new int[nodeTotal + 2];
+        int routeLength = space.copyPath(targetNode, route);
+        for (int r = 0; r < routeLength; r++) {
+            int node = route[r];
+            route[r] = node == sourceNode ? start
+                    : node == targetNode ? end
+                    : clusterNodes[nodeCluster[node]][node - nodeOffset[nodeCluster[node]]];
+        }
+
+        List<Cell> path = refine(local, route, routeLength, monitor);
+        long executionTime = (System.nanoTime() - startTime) / 1000;
+        return new Result(path, totalCost, executionTime, this);
+    }
+
+    private static void relax(SearchWorkspace space, int from, int to, int newCost) {
+        if (space.isClosed(to) || newCost >= space.getDistance(to)) return;
+        space.update(to, newCost, from);
+        space.getHeap().pushOrDecrease(to, newCost);
+    }
+
+    private static int distanceOrMinus(int distance) {
+        return distance == SearchWorkspace.INF ? -1 : distance;
+    }
+
+    // Hanya cluster di sepanjang rute yang di-search ulang untuk dapat cell-nya
+    private List<Cell> refine(SearchWorkspace local, int[] route, int routeLength, SearchMonitor monitor) {
+        List<Cell> path = new ArrayList<>();
+        path.add(maze.getCell(route[0]));
+        int[] segment = new int[clusterSize * clusterSize];
+
+        for (int r = 1; r < routeLength; r++) {
+            int from = route[r - 1];
+            int to = route[r];
+            int k = clusterOf(from);
+
+            if (k != clusterOf(to)) {
+                path.add(maze.getCell(to));
+                continue;
+            }
+            if (from == to) continue;
+
+            searchCluster(local, from, k, false, monitor);
+            int length = local.copyPath(toLocal(to, k), segment);
+            for (int i = 1; i < length; i++) {
+                path.add(maze.getCell(toCell(segment[i], k)));
+            }
+        }
+        return path;
+    }
+
+    // ========== STATS ==========
+
+    public int getClusterCount() {
+        return clusterNodes.length;
+    }
+
+    public int getNodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodeTotal;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Waktu build (atau rebuildRegion terakhir) dalam μs
+    public long getPreprocessingTime() {
+        lock.readLock().lock();
+        try {
+            return preprocessingTime;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Perkiraan memori graph abstrak dalam byte (array entrance, mask, matriks cost, index node)
+    public long getMemoryBytes() {
+        lock.readLock().lock();
+        try {
+            return memoryBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long memoryBytes() {
+        long bytes = 0;
+        for (int k = 0; k < clusterNodes.length; k++) {
+            bytes += 4L * clusterNodes[k].length + clusterMasks[k].length + 4L * clusterCosts[k].length;
+        }
+        bytes += 4L * nodeOffset.length + 4L * nodeCluster.length;
+        return bytes;
+    }
+}
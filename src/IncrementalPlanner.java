@@ -0,0 +1,230 @@
+import java.util.*;
+
+public class IncrementalPlanner implements MazeListener {
+
+    // D* Lite: search mundur dari end, g/rhs = cost menuju end. Setelah Maze.setWall / setTerrain
+    // hanya cell yang berubah dan tetangganya yang di-update, lalu bagian shortest-path tree yang
+    // terpengaruh diperbaiki. Heuristic tidak dipakai: EMPTY cost 0, jadi batas admissible = 0,
+    // dan start boleh pindah tanpa key modifier.
+    // Cost edge = (cost(v) << 32) + 1: urut menurut cost lalu jumlah langkah. Edge harus > 0,
+    // kalau tidak dua cell EMPTY bersebelahan bisa saling "menopang" g lama setelah cost naik
+    private static final long INF = Long.MAX_VALUE;
+    private static final int STEP_BITS = 32;
+
+    private final Maze maze;
+    private long[] g;
+    private long[] rhs;
+    private IndexedHeap open;
+    private int goal = -1;
+    private boolean needsReset = true;
+
+    private int[] pending = new int[64];
+    private int pendingCount;
+    private BitSet pendingSet = new BitSet();
+
+    private long lastExpansions;
+
+    public IncrementalPlanner(Maze maze) {
+        // Cost total ada di bit atas g dan dibaca balik sebagai int, jadi worst case (setiap cell
+        // dilewati dengan cost termahal) harus muat di int. Langkah < size selalu muat di 32 bit bawah
+        if ((long) maze.size() * CellType.getMaxCost() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze too large for D* Lite: " + maze.getRows() + "x" + maze.getCols());
+        }
+        this.maze = maze;
+        maze.addListener(this);
+    }
+
+    // Lepas listener kalau planner tidak dipakai lagi
+    public void detach() {
+        maze.removeListener(this);
+    }
+
+    // ========== MAZE LISTENER ==========
+
+    @Override
+    public void cellChanged(Maze maze, int index) {
+        if (needsReset || pendingSet.get(index)) return;
+        if (pendingCount == pending.length) pending = Arrays.copyOf(pending, pendingCount * 2);
+        pending[pendingCount++] = index;
+        pendingSet.set(index);
+    }
+
+    @Override
+    public void mazeRegenerated(Maze maze) {
+        needsReset = true;
+    }
+
+    // ========== PLANNING ==========
+
+    public PathResult findPath() {
+        return findPath(maze.getStart());
+    }
+
+    public PathResult findPath(Cell startCell) {
+        long startTime = System.nanoTime();
+        lastExpansions = 0;
+
+        if (needsReset || goal != maze.indexOf(maze.getEnd()) || g.length != maze.size()) {
+            reset();
+        } else {
+            applyPendingChanges();
+        }
+
+        int start = maze.indexOf(startCell);
+        computeShortestPath(start);
+
+        List<Cell> path = null;
+        int totalCost = -1;
+        if (g[start] != INF) {
+            path = extractPath(start);
+            if (path == null) {
+                // Ada cell yang belum konsisten di jalur, selesaikan semua antrean lalu coba lagi
+                drainQueue();
+                path = extractPath(start);
+            }
+            totalCost = (int) (g[start] >>> STEP_BITS);
+        }
+
+        long executionTime = (System.nanoTime() - startTime) / 1000;
+        return new PathResult(path, totalCost, executionTime, "D* Lite");
+    }
+
+    private void reset() {
+        int size = maze.size();
+        if (g == null || g.length != size) {
+            g = new long[size];
+            rhs = new long[size];
+            open = new IndexedHeap(size);
+        }
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+        open.clear();
+
+        goal = maze.indexOf(maze.getEnd());
+        rhs[goal] = 0;
+        open.push(goal, 0);
+
+        pendingCount = 0;
+        pendingSet.clear();
+        needsReset = false;
+    }
+
+    // Cell berubah mempengaruhi edge keluar (cell itu sendiri) dan edge masuk (tetangganya)
+    private void applyPendingChanges() {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+
+        for (int p = 0; p < pendingCount; p++) {
+            int cell = pending[p];
+            updateVertex(cell);
+
+            int row = cell / cols;
+            int col = cell % cols;
+            for (int d = 0; d < 4; d++) {
+                int neighbor = GridSearch.neighborOf(cell, row, col, d, rows, cols);
+                if (neighbor >= 0) updateVertex(neighbor);
+            }
+        }
+
+        pendingCount = 0;
+        pendingSet.clear();
+    }
+
+    private void updateVertex(int u) {
+        if (u != goal) {
+            rhs[u] = maze.isOpen(u) ? bestSuccessor(u) : INF;
+        }
+
+        if (open.contains(u)) open.remove(u);
+        if (g[u] != rhs[u]) open.push(u, Math.min(g[u], rhs[u]));
+    }
+
+    private long edgeCost(int to) {
+        return ((long) maze.getCost(to) << STEP_BITS) + 1;
+    }
+
+    // min cost(s') + g(s') untuk tetangga terbuka s'
+    private long bestSuccessor(int u) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int row = u / cols;
+        int col = u % cols;
+        long best = INF;
+
+        for (int d = 0; d < 4; d++) {
+            int neighbor = GridSearch.neighborOf(u, row, col, d, rows, cols);
+            if (neighbor < 0 || g[neighbor] == INF || !maze.isOpen(neighbor)) continue;
+            best = Math.min(best, g[neighbor] + edgeCost(neighbor));
+        }
+        return best;
+    }
+
+    private void computeShortestPath(int start) {
+        while (!open.isEmpty()
+                && (open.peekKey() < Math.min(g[start], rhs[start]) || rhs[start] != g[start])) {
+            expandNext();
+        }
+    }
+
+    private void drainQueue() {
+        while (!open.isEmpty()) {
+            expandNext();
+        }
+    }
+
+    private void expandNext() {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+
+        int u = open.pop();
+        lastExpansions++;
+
+        if (g[u] > rhs[u]) {
+            g[u] = rhs[u];
+        } else {
+            g[u] = INF;
+            updateVertex(u);
+        }
+
+        // Predecessor u = tetangga terbuka, edge mereka ke u bernilai cost(u)
+        int row = u / cols;
+        int col = u % cols;
+        for (int d = 0; d < 4; d++) {
+            int neighbor = GridSearch.neighborOf(u, row, col, d, rows, cols);
+            if (neighbor >= 0) updateVertex(neighbor);
+        }
+    }
+
+    // Ikuti edge "tight" (edgeCost(s') + g(s') == g(s)). Edge selalu > 0 jadi g turun terus, tidak bisa berputar,
+    // dan jumlah cost tight edge = g(start) - g(end), jadi path yang ketemu sudah optimal
+    private List<Cell> extractPath(int start) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+
+        List<Cell> path = new ArrayList<>();
+        path.add(maze.getCell(start));
+
+        int current = start;
+        while (current != goal) {
+            int row = current / cols;
+            int col = current % cols;
+            int next = -1;
+
+            for (int d = 0; d < 4 && next < 0; d++) {
+                int neighbor = GridSearch.neighborOf(current, row, col, d, rows, cols);
+                if (neighbor < 0 || g[neighbor] == INF || !maze.isOpen(neighbor)) continue;
+                if (g[neighbor] + edgeCost(neighbor) == g[current]) next = neighbor;
+            }
+
+            if (next < 0) return null;
+            path.add(maze.getCell(next));
+            current = next;
+        }
+        return path;
+    }
+
+    // Jumlah cell yang di-expand pada findPath terakhir
+    public long getLastExpansions() {
+        return lastExpansions;
+    }
+}
@@ -0,0 +1,178 @@
+import java.util.Arrays;
+
+public class IndexedHeap {
+
+    // 4-ary min-heap berisi index cell, setiap cell maksimal satu entry (decrease-key in place)
+    private static final int ARITY = 4;
+
+    private final int[] heap;
+    private final int[] position;
+    private final long[] key;
+    private int size;
+
+    private int peakSize;
+    private long pushCount;
+    private long popCount;
+    private long decreaseKeyCount;
+
+    public IndexedHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.key = new long[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int index) {
+        return position[index] >= 0;
+    }
+
+    public long keyOf(int index) {
+        return key[index];
+    }
+
+    public long peekKey() {
+        return key[heap[0]];
+    }
+
+    public void push(int index, long priority) {
+        key[index] = priority;
+        heap[size] = index;
+        position[index] = size;
+        size++;
+        siftUp(size - 1);
+
+        pushCount++;
+        if (size > peakSize) peakSize = size;
+    }
+
+    public void decreaseKey(int index, long priority) {
+        key[index] = priority;
+        siftUp(position[index]);
+        decreaseKeyCount++;
+    }
+
+    // Push kalau belum ada di heap, decrease-key kalau priority baru lebih kecil
+    public void pushOrDecrease(int index, long priority) {
+        if (position[index] < 0) {
+            push(index, priority);
+        } else if (priority < key[index]) {
+            decreaseKey(index, priority);
+        }
+    }
+
+    public int pop() {
+        int top = heap[0];
+        position[top] = -1;
+        size--;
+
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+
+        popCount++;
+        return top;
+    }
+
+    public void remove(int index) {
+        int pos = position[index];
+        if (pos < 0) return;
+
+        position[index] = -1;
+        size--;
+
+        if (pos < size) {
+            int last = heap[size];
+            heap[pos] = last;
+            position[last] = pos;
+            siftUp(pos);
+            siftDown(position[last]);
+        }
+    }
+
+    // Hanya entry yang masih ada yang di-reset, jadi O(size) bukan O(capacity)
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+        peakSize = 0;
+        pushCount = 0;
+        popCount = 0;
+        decreaseKeyCount = 0;
+    }
+
+    private void siftUp(int pos) {
+        int item = heap[pos];
+        long itemKey = key[item];
+
+        while (pos > 0) {
+            int parentPos = (pos - 1) / ARITY;
+            int parent = heap[parentPos];
+            if (key[parent] <= itemKey) break;
+
+            heap[pos] = parent;
+            position[parent] = pos;
+            pos = parentPos;
+        }
+
+        heap[pos] = item;
+        position[item] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int item = heap[pos];
+        long itemKey = key[item];
+
+        while (true) {
+            int firstChild = pos * ARITY + 1;
+            if (firstChild >= size) break;
+
+            int lastChild = Math.min(firstChild + ARITY, size);
+            int best = firstChild;
+            for (int c = firstChild + 1; c < lastChild; c++) {
+                if (key[heap[c]] < key[heap[best]]) best = c;
+            }
+            if (key[heap[best]] >= itemKey) break;
+
+            heap[pos] = heap[best];
+            position[heap[pos]] = pos;
+            pos = best;
+        }
+
+        heap[pos] = item;
+        position[item] = pos;
+    }
+
+    // ========== COUNTERS ==========
+
+    public int getPeakSize() {
+        return peakSize;
+    }
+
+    public long getPushCount() {
+        return pushCount;
+    }
+
+    public long getPopCount() {
+        return popCount;
+    }
+
+    public long getDecreaseKeyCount() {
+        return decreaseKeyCount;
+    }
+
+    public long getOperationCount() {
+        return pushCount + popCount + decreaseKeyCount;
+    }
+}
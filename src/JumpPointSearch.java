@@ -0,0 +1,134 @@
+import java.util.*;
+
+public class JumpPointSearch {
+
+    // Jump Point Search untuk grid 4 arah dengan cost seragam.
+    // Lorong lurus dilompati, yang masuk open list hanya junction, belokan dan end.
+    // Dead end tanpa cabang langsung dibuang
+    private static final int NO_PARENT = SearchWorkspace.NO_PARENT;
+
+    // Arah sama dengan GridSearch.neighborOf: atas, bawah, kiri, kanan
+    private static final int[] REVERSE = {1, 0, 3, 2};
+
+    public static PathResult findPath(Maze maze) {
+        return findPath(maze, "JPS");
+    }
+
+    public static PathResult findPath(Maze maze, String algorithmName) {
+        return findPath(maze, algorithmName, SearchMonitor.NONE);
+    }
+
+    // Monitor menerima jump point yang di-expand, bukan setiap cell di lorong
+    public static PathResult findPath(Maze maze, String algorithmName, SearchMonitor monitor) {
+        return findPath(maze, SearchWorkspace.forThread(maze), algorithmName, monitor);
+    }
+
+    // distance = jumlah langkah, parent = jump point sebelumnya
+    public static PathResult findPath(Maze maze, SearchWorkspace workspace, String algorithmName,
+                                      SearchMonitor monitor) {
+        long startTime = System.nanoTime();
+
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+
+        workspace.reset();
+        IndexedHeap open = workspace.getHeap();
+
+        int start = maze.indexOf(maze.getStart());
+        int end = maze.indexOf(maze.getEnd());
+        int endRow = end / cols;
+        int endCol = end % cols;
+
+        workspace.update(start, 0, NO_PARENT);
+        open.push(start, GridSearch.manhattan(start, endRow, endCol, cols));
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            workspace.close(current);
+            monitor.expanded(current, open.size());
+
+            if (current == end) {
+                List<Cell> path = expandPath(maze, workspace, end);
+                int totalCost = 0;
+                for (Cell cell : path) {
+                    totalCost += cell.getCost();
+                }
+                long executionTime = (System.nanoTime() - startTime) / 1000;
+                return new PathResult(path, totalCost, executionTime, algorithmName);
+            }
+
+            int arrivedFrom = direction(workspace.getParent(current), current, cols);
+            int currentSteps = workspace.getDistance(current);
+            for (int d = 0; d < 4; d++) {
+                if (arrivedFrom >= 0 && d == REVERSE[arrivedFrom]) continue;
+
+                int jumpPoint = jump(maze, current, d, end, rows, cols);
+                if (jumpPoint < 0 || workspace.isClosed(jumpPoint)) continue;
+
+                int newSteps = currentSteps + distance(current, jumpPoint, cols);
+                if (newSteps < workspace.getDistance(jumpPoint)) {
+                    workspace.update(jumpPoint, newSteps, current);
+                    open.pushOrDecrease(jumpPoint, newSteps + GridSearch.manhattan(jumpPoint, endRow, endCol, cols));
+                }
+            }
+        }
+
+        long executionTime = (System.nanoTime() - startTime) / 1000;
+        return new PathResult(null, -1, executionTime, algorithmName);
+    }
+
+    // Jalan lurus ke arah direction sampai ketemu end, cabang ke samping, atau tembok (-1)
+    private static int jump(Maze maze, int from, int direction, int end, int rows, int cols) {
+        boolean vertical = direction < 2;
+        int current = from;
+
+        while (true) {
+            int row = current / cols;
+            int col = current % cols;
+            int next = GridSearch.neighborOf(current, row, col, direction, rows, cols);
+            if (next < 0 || !maze.isOpen(next)) return -1;
+
+            current = next;
+            if (current == end) return current;
+
+            row = current / cols;
+            col = current % cols;
+            int sideA = GridSearch.neighborOf(current, row, col, vertical ? 2 : 0, rows, cols);
+            int sideB = GridSearch.neighborOf(current, row, col, vertical ? 3 : 1, rows, cols);
+            if ((sideA >= 0 && maze.isOpen(sideA)) || (sideB >= 0 && maze.isOpen(sideB))) {
+                return current;
+            }
+        }
+    }
+
+    // Arah lompatan from -> to (selalu satu baris atau satu kolom), -1 untuk start
+    private static int direction(int from, int to, int cols) {
+        if (from == NO_PARENT) return -1;
+        if (to / cols != from / cols) return to < from ? 0 : 1;
+        return to < from ? 2 : 3;
+    }
+
+    private static int distance(int a, int b, int cols) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+
+    // Jump point ke jump point selalu segmen lurus, isi ulang cell di antaranya
+    private static List<Cell> expandPath(Maze maze, SearchWorkspace workspace, int end) {
+        int cols = maze.getCols();
+        List<Cell> path = new ArrayList<>();
+        path.add(maze.getCell(end));
+
+        for (int current = end; workspace.getParent(current) != NO_PARENT; current = workspace.getParent(current)) {
+            int from = workspace.getParent(current);
+            int step = Integer.signum(from / cols - current / cols) * cols
+                    + Integer.signum(from % cols - current % cols);
+            for (int cell = current + step; cell != from; cell += step) {
+                path.add(maze.getCell(cell));
+            }
+            path.add(maze.getCell(from));
+        }
+
+        Collections.reverse(path);
+        return path;
+    }
+}
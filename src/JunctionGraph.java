@@ -0,0 +1,245 @@
+import java.util.*;
+
+public class JunctionGraph {
+
+    // Graph ringkas dari grid: dead end dipangkas, setiap lorong jadi satu edge.
+    // Node = junction (>= 3 cabang) + start + end. Disimpan CSR, per edge ada urutan cell di dalamnya
+    private static final int NO_NODE = -1;
+
+    private final Maze maze;
+    private final int version;
+    private final int startCell;
+    private final int endCell;
+
+    private int openCellCount;
+    private int nodeCount;
+    private int[] nodeCell;      // node -> index cell
+    private int[] nodeOfCell;    // index cell -> node, NO_NODE kalau bukan node
+
+    private int[] edgeOffset;    // edge dari node u: edgeOffset[u] .. edgeOffset[u + 1]
+    private int[] edgeSource;
+    private int[] edgeTarget;
+    private int[] edgeInteriorCost;
+    private int[] edgeCellOffset;  // cell di dalam edge e: edgeCells[edgeCellOffset[e] .. edgeCellOffset[e + 1]]
+    private int[] edgeCells;
+
+    private long buildTime;
+
+    private JunctionGraph(Maze maze) {
+        this.maze = maze;
+        this.version = maze.getVersion();
+        this.startCell = maze.indexOf(maze.getStart());
+        this.endCell = maze.indexOf(maze.getEnd());
+    }
+
+    public static JunctionGraph build(Maze maze) {
+        long startTime = System.nanoTime();
+        JunctionGraph graph = new JunctionGraph(maze);
+        graph.contract();
+        graph.buildTime = (System.nanoTime() - startTime) / 1000;
+        return graph;
+    }
+
+    // Graph hanya berlaku untuk versi maze dan pasangan start/end saat dibangun
+    public boolean isValid() {
+        return version == maze.getVersion()
+                && startCell == maze.indexOf(maze.getStart())
+                && endCell == maze.indexOf(maze.getEnd());
+    }
+
+    // ========== PREPROCESSING ==========
+
+    private void contract() {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int size = rows * cols;
+
+        // Hitung derajat tiap cell terbuka
+        byte[] degree = new byte[size];
+        for (int i = 0; i < size; i++) {
+            if (!maze.isOpen(i)) continue;
+            openCellCount++;
+            int row = i / cols;
+            int col = i % cols;
+            for (int d = 0; d < 4; d++) {
+                int neighbor = GridSearch.neighborOf(i, row, col, d, rows, cols);
+                if (neighbor >= 0 && maze.isOpen(neighbor)) degree[i]++;
+            }
+        }
+
+        // Pangkas dead end berulang: daun yang bukan start/end dibuang sampai habis
+        BitSet pruned = new BitSet(size);
+        int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < size; i++) {
+            if (maze.isOpen(i) && degree[i] <= 1 && i != startCell && i != endCell) {
+                queue[tail++] = i;
+                pruned.set(i);
+            }
+        }
+        while (head < tail) {
+            int leaf = queue[head++];
+            int row = leaf / cols;
+            int col = leaf % cols;
+            for (int d = 0; d < 4; d++) {
+                int neighbor = GridSearch.neighborOf(leaf, row, col, d, rows, cols);
+                if (neighbor < 0 || !maze.isOpen(neighbor) || pruned.get(neighbor)) continue;
+
+                degree[neighbor]--;
+                if (degree[neighbor] <= 1 && neighbor != startCell && neighbor != endCell) {
+                    pruned.set(neighbor);
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        // Node = cell tersisa dengan derajat != 2, plus start dan end
+        nodeOfCell = new int[size];
+        Arrays.fill(nodeOfCell, NO_NODE);
+        int[] nodes = queue;
+        for (int i = 0; i < size; i++) {
+            if (!maze.isOpen(i) || pruned.get(i)) continue;
+            if (degree[i] != 2 || i == startCell || i == endCell) {
+                nodeOfCell[i] = nodeCount;
+                nodes[nodeCount++] = i;
+            }
+        }
+        nodeCell = Arrays.copyOf(nodes, nodeCount);
+
+        // Telusuri lorong dari setiap node sampai ketemu node lain
+        edgeOffset = new int[nodeCount + 1];
+        edgeSource = new int[nodeCount * 4];
+        edgeTarget = new int[nodeCount * 4];
+        edgeInteriorCost = new int[nodeCount * 4];
+        edgeCellOffset = new int[nodeCount * 4 + 1];
+        int[] cells = new int[Math.max(16, 2 * (openCellCount - nodeCount))];
+        int edgeCount = 0;
+        int cellCount = 0;
+
+        for (int u = 0; u < nodeCount; u++) {
+            edgeOffset[u] = edgeCount;
+            int from = nodeCell[u];
+            int fromRow = from / cols;
+            int fromCol = from % cols;
+
+            for (int d = 0; d < 4; d++) {
+                int current = GridSearch.neighborOf(from, fromRow, fromCol, d, rows, cols);
+                if (current < 0 || !maze.isOpen(current) || pruned.get(current)) continue;
+
+                int previous = from;
+                int interiorCost = 0;
+                edgeCellOffset[edgeCount] = cellCount;
+
+                while (nodeOfCell[current] == NO_NODE) {
+                    if (cellCount == cells.length) cells = Arrays.copyOf(cells, cells.length * 2);
+                    cells[cellCount++] = current;
+                    interiorCost += maze.getCost(current);
+
+                    int next = nextInCorridor(current, previous, pruned, rows, cols);
+                    previous = current;
+                    current = next;
+                }
+
+                edgeSource[edgeCount] = u;
+                edgeTarget[edgeCount] = nodeOfCell[current];
+                edgeInteriorCost[edgeCount] = interiorCost;
+                edgeCount++;
+            }
+        }
+        edgeOffset[nodeCount] = edgeCount;
+        edgeCellOffset[edgeCount] = cellCount;
+        edgeCells = Arrays.copyOf(cells, cellCount);
+    }
+
+    // Cell lorong punya tepat dua tetangga tersisa, ambil yang bukan asal
+    private int nextInCorridor(int current, int previous, BitSet pruned, int rows, int cols) {
+        int row = current / cols;
+        int col = current % cols;
+        for (int d = 0; d < 4; d++) {
+            int neighbor = GridSearch.neighborOf(current, row, col, d, rows, cols);
+            if (neighbor >= 0 && neighbor != previous && maze.isOpen(neighbor) && !pruned.get(neighbor)) {
+                return neighbor;
+            }
+        }
+        return previous;
+    }
+
+    // ========== SEARCH ==========
+
+    // Dijkstra di atas node junction. Edge u -> v bernilai cost cell di dalam lorong + cost(v)
+    public PathResult findPath() {
+        long startTime = System.nanoTime();
+
+        int[] distance = new int[nodeCount];
+        int[] parentEdge = new int[nodeCount];
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        IndexedHeap open = new IndexedHeap(nodeCount);
+
+        int source = nodeOfCell[startCell];
+        int target = nodeOfCell[endCell];
+
+        distance[source] = 0;
+        parentEdge[source] = -1;
+        open.push(source, 0);
+
+        while (!open.isEmpty()) {
+            int u = open.pop();
+            if (u == target) break;
+
+            for (int e = edgeOffset[u]; e < edgeOffset[u + 1]; e++) {
+                int v = edgeTarget[e];
+                int newCost = distance[u] + edgeInteriorCost[e] + maze.getCost(nodeCell[v]);
+                if (newCost < distance[v]) {
+                    distance[v] = newCost;
+                    parentEdge[v] = e;
+                    open.pushOrDecrease(v, newCost);
+                }
+            }
+        }
+
+        long executionTime = (System.nanoTime() - startTime) / 1000;
+        if (distance[target] == Integer.MAX_VALUE) {
+            return new PathResult(null, -1, executionTime, "Junction Graph");
+        }
+
+        List<Cell> path = expandPath(source, target, parentEdge);
+        executionTime = (System.nanoTime() - startTime) / 1000;
+        return new PathResult(path, distance[target], executionTime, "Junction Graph");
+    }
+
+    // Susun ulang path cell dari urutan edge
+    private List<Cell> expandPath(int source, int target, int[] parentEdge) {
+        List<Cell> path = new ArrayList<>();
+        for (int node = target; node != source; ) {
+            int e = parentEdge[node];
+            path.add(maze.getCell(nodeCell[node]));
+            for (int i = edgeCellOffset[e + 1] - 1; i >= edgeCellOffset[e]; i--) {
+                path.add(maze.getCell(edgeCells[i]));
+            }
+            node = edgeSource[e];
+        }
+        path.add(maze.getCell(nodeCell[source]));
+
+        Collections.reverse(path);
+        return path;
+    }
+
+    // ========== STATS ==========
+
+    public int getOpenCellCount() {
+        return openCellCount;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeOffset[nodeCount];
+    }
+
+    public long getBuildTime() {
+        return buildTime;
+    }
+}
@@ -0,0 +1,125 @@
+import java.util.SplittableRandom;
+
+public class KruskalMazeGenerator {
+
+    // Randomized Kruskal: semua tembok antar cell diacak, tembok dibuka kalau dua cell di sisinya
+    // belum terhubung (union-find int[] dengan path halving + union by rank). Hasilnya spanning tree.
+    // loopDensity = fraksi tembok sisa (yang akan membuat loop) yang tetap dibuka, jadi maze punya
+    // rute alternatif: 0 = maze sempurna, 1 = semua tembok antar cell terbuka
+    private double loopDensity;
+
+    // Dipakai ulang antar carve selama ukuran maze tidak membesar
+    private int[] edges = new int[0];
+    private int[] parent = new int[0];
+    private byte[] rank = new byte[0];
+
+    public KruskalMazeGenerator(double loopDensity) {
+        setLoopDensity(loopDensity);
+    }
+
+    public double getLoopDensity() {
+        return loopDensity;
+    }
+
+    public void setLoopDensity(double loopDensity) {
+        if (!(loopDensity >= 0 && loopDensity <= 1)) {
+            throw new IllegalArgumentException("Loop density must be in [0, 1]: " + loopDensity);
+        }
+        this.loopDensity = loopDensity;
+    }
+
+    // Store harus sudah penuh tembok. Layout sama dengan Maze.generateMaze (cell di row/col ganjil).
+    // Return jumlah cell yang dibuka
+    public int carve(MazeStore store, SplittableRandom random) {
+        int rows = store.getRows();
+        int cols = store.getCols();
+        int height = (rows - 1) / 2;
+        int width = (cols - 1) / 2;
+        if (height <= 0 || width <= 0) return 0;
+
+        int cells = height * width;
+        if (parent.length < cells) {
+            parent = new int[cells];
+            rank = new byte[cells];
+            edges = new int[2 * cells];
+        }
+
+        // Edge = cell * 2 (+0 = tembok kanan, +1 = tembok bawah), diacak Fisher-Yates sambil diisi
+        int edgeCount = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            parent[cell] = cell;
+            rank[cell] = 0;
+            int col = cell % width;
+            if (col < width - 1) edgeCount = addShuffled(edges, edgeCount, cell * 2, random);
+            if (cell + width < cells) edgeCount = addShuffled(edges, edgeCount, cell * 2 + 1, random);
+            store.setWall(cellIndex(cell, width, cols), false);
+        }
+
+        // Edge yang ditolak (membuat loop) dipadatkan di awal array, urutannya tetap acak
+        int rejected = 0;
+        int opened = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            int edge = edges[e];
+            int cell = edge >>> 1;
+            int other = (edge & 1) == 0 ? cell + 1 : cell + width;
+
+            if (union(cell, other)) {
+                openWall(store, cell, edge, width, cols);
+                opened++;
+            } else {
+                edges[rejected++] = edge;
+            }
+        }
+
+        int loops = (int) Math.round(loopDensity * rejected);
+        for (int e = 0; e < loops; e++) {
+            int edge = edges[e];
+            openWall(store, edge >>> 1, edge, width, cols);
+        }
+
+        return cells + opened + loops;
+    }
+
+    // Inside-out Fisher-Yates: elemen baru masuk di posisi acak, elemen lama pindah ke belakang
+    private static int addShuffled(int[] edges, int count, int edge, SplittableRandom random) {
+        int j = random.nextInt(count + 1);
+        edges[count] = edges[j];
+        edges[j] = edge;
+        return count + 1;
+    }
+
+    private static int cellIndex(int cell, int width, int cols) {
+        int row = cell / width;
+        int col = cell - row * width;
+        return (2 * row + 1) * cols + 2 * col + 1;
+    }
+
+    private static void openWall(MazeStore store, int cell, int edge, int width, int cols) {
+        int index = cellIndex(cell, width, cols);
+        store.setWall((edge & 1) == 0 ? index + 1 : index + cols, false);
+    }
+
+    private boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) return false;
+
+        if (rank[rootA] < rank[rootB]) {
+            parent[rootA] = rootB;
+        } else if (rank[rootA] > rank[rootB]) {
+            parent[rootB] = rootA;
+        } else {
+            parent[rootB] = rootA;
+            rank[rootA]++;
+        }
+        return true;
+    }
+
+    private int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
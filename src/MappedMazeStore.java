@@ -0,0 +1,201 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+public class MappedMazeStore implements MazeStore, Closeable {
+
+    // Storage di file lewat FileChannel.map, jadi ukuran maze dibatasi disk, bukan -Xmx.
+    // Data dibagi tile TILE x TILE cell: satu tile = bitset wall (512 byte) lalu terrain (4096 byte).
+    // Cell yang berdekatan di grid juga berdekatan di file, OS cukup page-in tile yang disentuh.
+    // Tile dipetakan per segment (65536 tile per MappedByteBuffer) supaya jumlah mapping tetap kecil.
+    // Batas: cell tetap dialamatkan int index = row * cols + col (interface MazeStore, Maze, search),
+    // jadi rows * cols maksimal Integer.MAX_VALUE (~2^31 cell, mis. 46340 x 46340). Ukuran lebih besar
+    // ditolak dengan IllegalArgumentException sebelum file dibuka. Yang muat di disk belum tentu bisa
+    // di-search: SearchWorkspace mengalokasikan beberapa int[rows * cols] di heap
+    public static final int TILE_SHIFT = 6;
+    public static final int TILE = 1 << TILE_SHIFT;
+    private static final int TILE_MASK = TILE - 1;
+    private static final int TILE_CELLS = TILE * TILE;
+    private static final int WALL_BYTES = TILE_CELLS / 8;
+    public static final int TILE_BYTES = WALL_BYTES + TILE_CELLS;
+    private static final int SEGMENT_SHIFT = 16;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+    private final int rows;
+    private final int cols;
+    private final int tilesPerRow;
+    private final int tileCount;
+    private final FileChannel channel;
+    private final boolean ownsChannel;
+    private final MappedByteBuffer[] segments;
+
+    // Petakan data mulai dari offset di channel (misal setelah header file maze)
+    public MappedMazeStore(FileChannel channel, long offset, int rows, int cols, FileChannel.MapMode mode)
+            throws IOException {
+        this(channel, offset, rows, cols, mode, false);
+    }
+
+    private MappedMazeStore(FileChannel channel, long offset, int rows, int cols, FileChannel.MapMode mode,
+                            boolean ownsChannel) throws IOException {
+        checkSize(rows, cols);
+        this.rows = rows;
+        this.cols = cols;
+        this.tilesPerRow = (cols + TILE - 1) >> TILE_SHIFT;
+        this.tileCount = tilesPerRow * ((rows + TILE - 1) >> TILE_SHIFT);
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+
+        int segmentCount = (tileCount + SEGMENT_MASK) >>> SEGMENT_SHIFT;
+        this.segments = new MappedByteBuffer[segmentCount];
+        for (int s = 0; s < segmentCount; s++) {
+            int tiles = Math.min(SEGMENT_MASK + 1, tileCount - (s << SEGMENT_SHIFT));
+            long position = offset + ((long) s << SEGMENT_SHIFT) * TILE_BYTES;
+            segments[s] = channel.map(mode, position, (long) tiles * TILE_BYTES);
+        }
+    }
+
+    // Dicek sebelum channel dibuka, supaya ukuran yang ditolak tidak meninggalkan file atau channel terbuka
+    public static void checkSize(int rows, int cols) {
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze size " + rows + "x" + cols
+                    + " not supported: rows * cols must be between 1 and " + Integer.MAX_VALUE
+                    + " (cells are addressed by int index)");
+        }
+    }
+
+    // File baru (isi lama dibuang), semua cell tembok dengan terrain EMPTY
+    public static MappedMazeStore create(Path file, int rows, int cols) throws IOException {
+        checkSize(rows, cols);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        MappedMazeStore store = new MappedMazeStore(channel, 0, rows, cols, FileChannel.MapMode.READ_WRITE, true);
+        store.fillWalls(true);
+        return store;
+    }
+
+    // Buka file yang dibuat create() dengan ukuran yang sama
+    public static MappedMazeStore open(Path file, int rows, int cols) throws IOException {
+        checkSize(rows, cols);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new MappedMazeStore(channel, 0, rows, cols, FileChannel.MapMode.READ_WRITE, true);
+    }
+
+    // Ukuran data di file untuk maze rows x cols
+    public static long dataBytes(int rows, int cols) {
+        long tiles = (long) ((cols + TILE - 1) >> TILE_SHIFT) * ((rows + TILE - 1) >> TILE_SHIFT);
+        return tiles * TILE_BYTES;
+    }
+
+    // ========== CELL ACCESS ==========
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public boolean isWall(int index) {
+        int row = index / cols;
+        int col = index - row * cols;
+        int tile = (row >> TILE_SHIFT) * tilesPerRow + (col >> TILE_SHIFT);
+        int local = ((row & TILE_MASK) << TILE_SHIFT) | (col & TILE_MASK);
+
+        int position = (tile & SEGMENT_MASK) * TILE_BYTES + (local >>> 3);
+        return (segments[tile >>> SEGMENT_SHIFT].get(position) & (1 << (local & 7))) != 0;
+    }
+
+    @Override
+    public void setWall(int index, boolean wall) {
+        int row = index / cols;
+        int col = index - row * cols;
+        int tile = (row >> TILE_SHIFT) * tilesPerRow + (col >> TILE_SHIFT);
+        int local = ((row & TILE_MASK) << TILE_SHIFT) | (col & TILE_MASK);
+
+        MappedByteBuffer segment = segments[tile >>> SEGMENT_SHIFT];
+        int position = (tile & SEGMENT_MASK) * TILE_BYTES + (local >>> 3);
+        int bits = segment.get(position);
+        bits = wall ? bits | (1 << (local & 7)) : bits & ~(1 << (local & 7));
+        segment.put(position, (byte) bits);
+    }
+
+    @Override
+    public int getTerrain(int index) {
+        int row = index / cols;
+        int col = index - row * cols;
+        int tile = (row >> TILE_SHIFT) * tilesPerRow + (col >> TILE_SHIFT);
+        int local = ((row & TILE_MASK) << TILE_SHIFT) | (col & TILE_MASK);
+
+        int position = (tile & SEGMENT_MASK) * TILE_BYTES + WALL_BYTES + local;
+        return segments[tile >>> SEGMENT_SHIFT].get(position);
+    }
+
+    @Override
+    public void setTerrain(int index, int ordinal) {
+        int row = index / cols;
+        int col = index - row * cols;
+        int tile = (row >> TILE_SHIFT) * tilesPerRow + (col >> TILE_SHIFT);
+        int local = ((row & TILE_MASK) << TILE_SHIFT) | (col & TILE_MASK);
+
+        int position = (tile & SEGMENT_MASK) * TILE_BYTES + WALL_BYTES + local;
+        segments[tile >>> SEGMENT_SHIFT].put(position, (byte) ordinal);
+    }
+
+    // ========== BULK ==========
+
+    @Override
+    public void fillWalls(boolean wall) {
+        fillTiles(0, WALL_BYTES, wall ? (byte) -1 : 0);
+    }
+
+    @Override
+    public void fillTerrain(int ordinal) {
+        fillTiles(WALL_BYTES, TILE_CELLS, (byte) ordinal);
+    }
+
+    private void fillTiles(int start, int length, byte value) {
+        byte[] chunk = new byte[length];
+        Arrays.fill(chunk, value);
+
+        for (int tile = 0; tile < tileCount; tile++) {
+            segments[tile >>> SEGMENT_SHIFT].put((tile & SEGMENT_MASK) * TILE_BYTES + start, chunk);
+        }
+    }
+
+    @Override
+    public long getStorageBytes() {
+        return (long) tileCount * TILE_BYTES;
+    }
+
+    // CRC32 seluruh data tile, dibaca langsung dari mapping
+    public long checksum() {
+        CRC32 crc = new CRC32();
+        for (MappedByteBuffer segment : segments) {
+            crc.update(segment.duplicate().clear());
+        }
+        return crc.getValue();
+    }
+
+    // Tulis page yang berubah ke disk
+    public void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    // Mapping tetap valid sampai di-GC, close hanya flush dan tutup channel milik store ini
+    @Override
+    public void close() throws IOException {
+        force();
+        if (ownsChannel) channel.close();
+    }
+}
@@ -1,145 +1,392 @@
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 public class Maze {
+    // Wall dan terrain disimpan di MazeStore (heap: ArrayMazeStore, file: MappedMazeStore),
+    // start/end sebagai index row * cols + col. Objek Cell hanya dibuat untuk UI (lihat getGrid)
+    private static final CellType[] TYPES = CellType.values();
+    private static final int NONE = -1;
+
     private int rows;
     private int cols;
-    private Cell[][] grid;
-    private Cell start;
-    private Cell end;
-    private Random random;
+    private final MazeStore store;
+    private int startIndex = NONE;
+    private int endIndex = NONE;
+    private volatile Cell[][] grid;
+    // Carving, start/end dan terrain masing-masing punya stream sendiri yang di-split dari seed,
+    // jadi cara carving (sekuensial atau paralel) tidak menggeser angka acak untuk start/end dan terrain
+    private static final int TERRAIN_BAND = 64;
+
+    private final SplittableRandom seedSource;
+    private long nextSeed;
+    private SplittableRandom carveRandom;
+    private SplittableRandom endpointRandom;
+    private SplittableRandom terrainRandom;
+    private long seed;
+
+    // Buffer carving dipakai ulang antar generate, jadi generate berikutnya tidak alokasi
+    private int[] carveStack = new int[64];
+    private final int[] unvisited = new int[4];
+
+    private boolean terrainEnabled = true;
+    private double loopDensity;
+    private KruskalMazeGenerator braidGenerator;
+
+    // Pemilihan start/end lewat dua BFS; buffer dipakai ulang antar generate
+    private static final int MAX_SWEEP_CELLS = 1 << 25;
+    private static final int OPEN_SAMPLE_ATTEMPTS = 64;
+    private double endpointPercentile = 1.0;
+    private int endpointDistance = NONE;
+    private int[] sweepQueue = new int[0];
+    private long[] sweepVisited = new long[0];
+    private int[] levelEnds = new int[64];
+    private int levelCount;
+    private int[] openTypeCounts = new int[TYPES.length];
+    private int version;
+    private List<MazeListener> listeners = new ArrayList<>();
 
     public Maze(int rows, int cols) {
-        this.rows = rows;
-        this.cols = cols;
-        this.grid = new Cell[rows][cols];
-        this.random = new Random();
-        initializeGrid();
+        this(new ArrayMazeStore(rows, cols));
     }
 
-    private void initializeGrid() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                grid[i][j] = new Cell(i, j);
-            }
-        }
+    // generateMaze() pertama memakai seed ini, berikutnya seed turunannya (urutan maze bisa diulang)
+    public Maze(int rows, int cols, long seed) {
+        this(new ArrayMazeStore(rows, cols), new SplittableRandom(seed), seed);
+    }
+
+    // Misal MappedMazeStore untuk maze yang lebih besar dari heap
+    public Maze(MazeStore store) {
+        this(store, new SplittableRandom());
+    }
+
+    private Maze(MazeStore store, SplittableRandom seedSource) {
+        this(store, seedSource, seedSource.nextLong());
+    }
+
+    private Maze(MazeStore store, SplittableRandom seedSource, long firstSeed) {
+        this.rows = store.getRows();
+        this.cols = store.getCols();
+        this.store = store;
+        this.seedSource = seedSource;
+        this.nextSeed = firstSeed;
+    }
+
+    // Store yang wall-nya sudah di-carve di luar Maze (misal EllerMazeGenerator ke MappedMazeStore).
+    // Start, end dan terrain dipilih seperti generateMaze, deterministik per seed
+    public static Maze fromCarvedStore(MazeStore store, long seed) {
+        Maze maze = new Maze(store, new SplittableRandom(seed), seed);
+        maze.startGeneration(seed);
+        maze.finishGeneration(maze.countOpenCells(), ForkJoinPool.commonPool());
+        return maze;
     }
 
     public void generateMaze() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                grid[i][j].setWall(true);
-                grid[i][j].setPath(false);
-                grid[i][j].setExploring(false);
-                grid[i][j].setVisitOrder(-1);
-                grid[i][j].setStart(false);
-                grid[i][j].setEnd(false);
-            }
+        // Seed baru per generate, disimpan supaya layout bisa dicatat (MazeFile) dan dibuat ulang
+        long seed = nextSeed;
+        nextSeed = seedSource.nextLong();
+        generateMaze(seed);
+    }
+
+    // Seed yang sama menghasilkan maze (wall, start, end, terrain) yang sama persis
+    public void generateMaze(long seed) {
+        beginGeneration(seed);
+        finishGeneration(loopDensity > 0 ? carveBraided() : carveBacktracker(), null);
+    }
+
+    // Carving paralel per tile (TiledMazeGenerator) di common pool, untuk grid besar
+    public void generateMazeParallel(long seed) {
+        generateMazeParallel(seed, new TiledMazeGenerator(), ForkJoinPool.commonPool());
+    }
+
+    // Bentuk maze berbeda dari generateMaze (tile + seam), tapi tetap deterministik per seed
+    // dan ukuran tile, berapa pun parallelism pool-nya
+    public void generateMazeParallel(long seed, TiledMazeGenerator generator, ForkJoinPool pool) {
+        beginGeneration(seed);
+        finishGeneration(generator.carve(store, carveRandom.nextLong(), pool), pool);
+    }
+
+    private void beginGeneration(long seed) {
+        startGeneration(seed);
+        store.fillWalls(true);
+    }
+
+    // Stream RNG dan state tanpa menyentuh wall di store
+    private void startGeneration(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        carveRandom = root.split();
+        endpointRandom = root.split();
+        terrainRandom = root.split();
+
+        startIndex = NONE;
+        endIndex = NONE;
+        resetViewState();
+    }
+
+    private int countOpenCells() {
+        int size = size();
+        int open = 0;
+        for (int index = 0; index < size; index++) {
+            if (!isWallAt(index)) open++;
         }
+        return open;
+    }
 
+    // Recursive backtracker dari (1, 1), return jumlah cell yang dibuka
+    private int carveBacktracker() {
         int startRow = 1;
         int startCol = 1;
 
-        Stack<Cell> stack = new Stack<>();
-        Cell current = grid[startRow][startCol];
-        current.setWall(false);
-        stack.push(current);
+        int[] stack = carveStack;
+        int top = 0;
+        int current = startRow * cols + startCol;
+        setWallBit(current, false);
+        stack[top++] = current;
+        int carved = 1;
 
         // DFS algorithm untuk carving maze
-        while (!stack.isEmpty()) {
-            current = stack.peek();
-            List<Cell> unvisitedNeighbors = getUnvisitedNeighbors(current);
-
-            if (!unvisitedNeighbors.isEmpty()) {
-                Cell next = unvisitedNeighbors.get(random.nextInt(unvisitedNeighbors.size()));
-                removeWallBetween(current, next);
-                next.setWall(false);
-                stack.push(next);
+        while (top > 0) {
+            current = stack[top - 1];
+            int count = getUnvisitedNeighbors(current, unvisited);
+
+            if (count > 0) {
+                int next = unvisited[carveRandom.nextInt(count)];
+                setWallBit((current + next) >>> 1, false);
+                setWallBit(next, false);
+                carved += 2;
+                if (top == stack.length) stack = carveStack = Arrays.copyOf(stack, top * 2);
+                stack[top++] = next;
             } else {
-                stack.pop();
+                top--;
             }
         }
+        return carved;
+    }
 
-        // Random start and end positions!
-        List<Cell> availableCells = new ArrayList<>();
-        for (int i = 1; i < rows - 1; i++) {
-            for (int j = 1; j < cols - 1; j++) {
-                if (!grid[i][j].isWall()) {
-                    availableCells.add(grid[i][j]);
-                }
-            }
+    // Kruskal + loop, generator (dan buffer-nya) dipakai ulang antar generate
+    private int carveBraided() {
+        if (braidGenerator == null) {
+            braidGenerator = new KruskalMazeGenerator(loopDensity);
+        } else {
+            braidGenerator.setLoopDensity(loopDensity);
         }
+        return braidGenerator.carve(store, carveRandom);
+    }
 
-        // Pick random start
-        if (!availableCells.isEmpty()) {
-            start = availableCells.get(random.nextInt(availableCells.size()));
-            start.setStart(true);
-            start.setWall(false);
-            availableCells.remove(start);
+    // Start, end dan terrain setelah wall di-carve; carved = jumlah cell terbuka.
+    // pool null = terrain diisi sekuensial, hasilnya sama persis dengan versi paralel
+    private void finishGeneration(int carved, ForkJoinPool pool) {
+        endpointDistance = NONE;
+        if (carved > MAX_SWEEP_CELLS) {
+            pickEndpointsBySampling(carved);
+        } else if (carved > 1) {
+            pickEndpointsBySweep(carved);
+        } else if (carved == 1) {
+            startIndex = randomOpenInterior(NONE);
         }
+        // carved == 0 (maze tanpa interior): start dan end tetap NONE dari beginGeneration
+
+        assignTerrainTypes(carved, pool);
+        version++;
+
+        for (MazeListener listener : listeners) {
+            listener.mazeRegenerated(this);
+        }
+    }
+
+    // Dua BFS (diameter): BFS dari cell acak, cell terjauh jadi start; BFS kedua dari start,
+    // end diambil dari level jarak di persentil endpointPercentile (1 = terjauh = diameter
+    // untuk maze sempurna). Jarak dihitung di graph, bukan Manhattan, jadi panjang path antar
+    // maze stabil. Queue BFS diurutkan per level, jadi tidak perlu array jarak per cell
+    private void pickEndpointsBySweep(int carved) {
+        if (sweepQueue.length < carved) sweepQueue = new int[carved];
+        if (sweepVisited.length < (size() + 63) >>> 6) sweepVisited = new long[(size() + 63) >>> 6];
+
+        int[] queue = sweepQueue;
+        int source = randomOpenInterior(NONE);
+        if (source == NONE) return;
+        int reached = sweep(source);
+        startIndex = queue[reached - 1];
+
+        reached = sweep(startIndex);
+        int levels = levelCount;
+        if (reached == 1) return;
+
+        // Rank di antara cell yang terjangkau selain start, lalu cari level tempat rank itu jatuh
+        int rank = Math.max(1, (int) Math.ceil(endpointPercentile * (reached - 1)));
+        int level = 1;
+        while (level < levels - 1 && levelEnds[level] - 1 < rank) {
+            level++;
+        }
+
+        int from = levelEnds[level - 1];
+        endIndex = queue[from + endpointRandom.nextInt(levelEnds[level] - from)];
+        endpointDistance = level;
+    }
+
+    // BFS dari source ke sweepQueue, levelEnds[d] = posisi akhir level jarak d. Return jumlah cell
+    private int sweep(int source) {
+        int[] queue = sweepQueue;
+        long[] visited = sweepVisited;
+        Arrays.fill(visited, 0L);
+
+        queue[0] = source;
+        visited[source >>> 6] |= 1L << source;
+        int head = 0;
+        int tail = 1;
+        levelCount = 0;
+
+        while (head < tail) {
+            int levelEnd = tail;
+            while (head < levelEnd) {
+                int current = queue[head++];
+                tail = visit(current - cols, queue, visited, tail);
+                tail = visit(current + cols, queue, visited, tail);
+                tail = visit(current - 1, queue, visited, tail);
+                tail = visit(current + 1, queue, visited, tail);
+            }
+            if (levelCount == levelEnds.length) levelEnds = Arrays.copyOf(levelEnds, levelCount * 2);
+            levelEnds[levelCount++] = levelEnd;
+        }
+        return tail;
+    }
+
+    // Semua cell terbuka ada di dalam border, jadi tetangga +-1 / +-cols selalu index yang valid
+    private int visit(int index, int[] queue, long[] visited, int tail) {
+        if ((visited[index >>> 6] & (1L << index)) != 0 || isWallAt(index)) return tail;
+        visited[index >>> 6] |= 1L << index;
+        queue[tail] = index;
+        return tail + 1;
+    }
+
+    // Maze sangat besar (store di file): buffer BFS tidak muat di heap, jadi end dipilih dari
+    // beberapa kandidat acak berdasarkan jarak Manhattan
+    private void pickEndpointsBySampling(int carved) {
+        // Random start and end positions! Dipilih acak seragam dari cell terbuka di dalam border
+        startIndex = randomOpenInterior(NONE);
+        if (startIndex == NONE) return;
+        int availableCount = carved - 1;
 
         // Pick random end (far from start for better challenge)
-        if (!availableCells.isEmpty()) {
-            Cell farthestCell = null;
-            int maxDistance = 0;
-
-            int samplesToCheck = Math.min(20, availableCells.size());
-            for (int i = 0; i < samplesToCheck; i++) {
-                Cell candidate = availableCells.get(random.nextInt(availableCells.size()));
-                int distance = Math.abs(candidate.getRow() - start.getRow()) +
-                        Math.abs(candidate.getCol() - start.getCol());
-
-                if (distance > maxDistance) {
-                    maxDistance = distance;
-                    farthestCell = candidate;
-                }
+        int farthest = NONE;
+        int maxDistance = 0;
+        int startRowIndex = startIndex / cols;
+        int startColIndex = startIndex % cols;
+
+        int samplesToCheck = Math.min(20, availableCount);
+        for (int i = 0; i < samplesToCheck; i++) {
+            int candidate = randomOpenInterior(startIndex);
+            if (candidate == NONE) break;
+            int distance = Math.abs(candidate / cols - startRowIndex) +
+                    Math.abs(candidate % cols - startColIndex);
+
+            if (distance > maxDistance) {
+                maxDistance = distance;
+                farthest = candidate;
             }
+        }
+
+        endIndex = farthest;
+    }
 
-            end = farthestCell;
-            end.setEnd(true);
-            end.setWall(false);
+    // Tetangga berjarak 2 yang masih tembok, ditulis ke out (maksimal 4), return jumlahnya
+    private int getUnvisitedNeighbors(int index, int[] out) {
+        int row = index / cols;
+        int col = index % cols;
+        int count = 0;
+
+        if (isValid(row - 2, col) && isWallAt(index - 2 * cols)) out[count++] = index - 2 * cols;
+        if (isValid(row + 2, col) && isWallAt(index + 2 * cols)) out[count++] = index + 2 * cols;
+        if (isValid(row, col - 2) && isWallAt(index - 2)) out[count++] = index - 2;
+        if (isValid(row, col + 2) && isWallAt(index + 2)) out[count++] = index + 2;
+        return count;
+    }
+
+    // Rejection sampling: posisi acak di dalam border sampai ketemu cell terbuka selain exclude.
+    // Kalau sampling terus gagal (maze hampir penuh tembok), scan interior dari posisi acak.
+    // NONE kalau tidak ada interior (rows / cols < 3) atau tidak ada cell terbuka selain exclude
+    private int randomOpenInterior(int exclude) {
+        if (rows < 3 || cols < 3) return NONE;
+
+        for (int attempt = 0; attempt < OPEN_SAMPLE_ATTEMPTS; attempt++) {
+            int index = (1 + endpointRandom.nextInt(rows - 2)) * cols + 1 + endpointRandom.nextInt(cols - 2);
+            if (!isWallAt(index) && index != exclude) return index;
         }
 
-        assignTerrainTypes();
+        int width = cols - 2;
+        int interior = (rows - 2) * width;
+        int offset = endpointRandom.nextInt(interior);
+        for (int i = 0; i < interior; i++) {
+            int k = i < interior - offset ? offset + i : i - (interior - offset);
+            int index = (1 + k / width) * cols + 1 + k % width;
+            if (!isWallAt(index) && index != exclude) return index;
+        }
+        return NONE;
     }
 
-    private List<Cell> getUnvisitedNeighbors(Cell cell) {
-        List<Cell> neighbors = new ArrayList<>();
-        int[][] directions = {{-2, 0}, {2, 0}, {0, -2}, {0, 2}};
+    // Sekalian menghitung openTypeCounts, jadi tidak perlu pass kedua atas semua cell.
+    // Grid dibagi band TERRAIN_BAND row, tiap band punya stream sendiri (split berurutan dari
+    // terrainRandom), jadi band bisa diisi paralel tanpa mengubah hasil
+    private void assignTerrainTypes(int openCount, ForkJoinPool pool) {
+        Arrays.fill(openTypeCounts, 0);
+        if (!terrainEnabled) {
+            store.fillTerrain(CellType.EMPTY.ordinal());
+            openTypeCounts[CellType.EMPTY.ordinal()] = openCount;
+            return;
+        }
 
-        for (int[] dir : directions) {
-            int newRow = cell.getRow() + dir[0];
-            int newCol = cell.getCol() + dir[1];
+        int bands = (rows + TERRAIN_BAND - 1) / TERRAIN_BAND;
+        SplittableRandom[] streams = new SplittableRandom[bands];
+        for (int band = 0; band < bands; band++) {
+            streams[band] = terrainRandom.split();
+        }
 
-            if (isValid(newRow, newCol) && grid[newRow][newCol].isWall()) {
-                neighbors.add(grid[newRow][newCol]);
+        int[][] bandCounts = new int[bands][TYPES.length];
+        if (pool == null) {
+            for (int band = 0; band < bands; band++) {
+                assignTerrainBand(band, streams[band], bandCounts[band]);
             }
+        } else {
+            pool.invoke(new ForRange(0, bands, band -> assignTerrainBand(band, streams[band], bandCounts[band])));
         }
-        return neighbors;
-    }
 
-    private void removeWallBetween(Cell current, Cell next) {
-        int wallRow = (current.getRow() + next.getRow()) / 2;
-        int wallCol = (current.getCol() + next.getCol()) / 2;
-        grid[wallRow][wallCol].setWall(false);
+        for (int[] counts : bandCounts) {
+            for (int type = 0; type < counts.length; type++) {
+                openTypeCounts[type] += counts[type];
+            }
+        }
     }
 
-    private void assignTerrainTypes() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                if (!grid[i][j].isWall() && !grid[i][j].isStart() && !grid[i][j].isEnd()) {
-                    double rand = random.nextDouble();
+    private void assignTerrainBand(int band, SplittableRandom random, int[] counts) {
+        int from = band * TERRAIN_BAND * cols;
+        int to = Math.min(rows, (band + 1) * TERRAIN_BAND) * cols;
 
-                    if (rand < 0.4) {
-                        grid[i][j].setType(CellType.EMPTY);
-                    } else if (rand < 0.7) {
-                        grid[i][j].setType(CellType.GRASS);
-                    } else if (rand < 0.9) {
-                        grid[i][j].setType(CellType.DIRT);
-                    } else {
-                        grid[i][j].setType(CellType.WATER);
-                    }
+        for (int index = from; index < to; index++) {
+            // Tembok, start dan end selalu EMPTY, bukan sisa terrain dari maze sebelumnya,
+            // jadi seed yang sama menghasilkan isi store yang sama
+            if (isWallAt(index)) {
+                store.setTerrain(index, CellType.EMPTY.ordinal());
+                continue;
+            }
+
+            int type;
+            if (index == startIndex || index == endIndex) {
+                type = CellType.EMPTY.ordinal();
+            } else {
+                double rand = random.nextDouble();
+
+                if (rand < 0.4) {
+                    type = CellType.EMPTY.ordinal();
+                } else if (rand < 0.7) {
+                    type = CellType.GRASS.ordinal();
+                } else if (rand < 0.9) {
+                    type = CellType.DIRT.ordinal();
+                } else {
+                    type = CellType.WATER.ordinal();
                 }
             }
+            store.setTerrain(index, type);
+            counts[type]++;
         }
     }
 
@@ -147,6 +394,30 @@ public class Maze {
         return row > 0 && row < rows - 1 && col > 0 && col < cols - 1;
     }
 
+    // ========== STORE ACCESS ==========
+
+    private boolean isWallAt(int index) {
+        return store.isWall(index);
+    }
+
+    private void setWallBit(int index, boolean wall) {
+        store.setWall(index, wall);
+    }
+
+    // State tampilan di view Cell ikut di-reset saat maze dibuat ulang
+    private void resetViewState() {
+        Cell[][] view = grid;
+        if (view == null) return;
+
+        for (Cell[] row : view) {
+            for (Cell cell : row) {
+                cell.setPath(false);
+                cell.setExploring(false);
+                cell.setVisitOrder(-1);
+            }
+        }
+    }
+
     public List<Cell> getNeighbors(Cell cell) {
         List<Cell> neighbors = new ArrayList<>();
         int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
@@ -156,8 +427,8 @@ public class Maze {
             int newCol = cell.getCol() + dir[1];
 
             if (newRow >= 0 && newRow < rows && newCol >= 0 && newCol < cols
-                    && !grid[newRow][newCol].isWall()) {
-                neighbors.add(grid[newRow][newCol]);
+                    && !isWallAt(newRow * cols + newCol)) {
+                neighbors.add(getCell(newRow, newCol));
             }
         }
         return neighbors;
@@ -171,20 +442,217 @@ public class Maze {
         return cols;
     }
 
+    // View Cell[][] untuk UI, dibangun sekali saat pertama diminta. Setelah itu getCell
+    // mengembalikan objek yang sama, jadi state path/exploring dari search terlihat di grid
     public Cell[][] getGrid() {
-        return grid;
+        Cell[][] view = grid;
+        if (view == null) {
+            synchronized (this) {
+                view = grid;
+                if (view == null) {
+                    view = new Cell[rows][cols];
+                    for (int i = 0; i < rows; i++) {
+                        for (int j = 0; j < cols; j++) {
+                            view[i][j] = new Cell(this, i, j);
+                        }
+                    }
+                    grid = view;
+                }
+            }
+        }
+        return view;
+    }
+
+    // Naik setiap kali wall atau terrain berubah, dipakai cache (GoalDistanceField dll) untuk invalidasi
+    public int getVersion() {
+        return version;
+    }
+
+    public void setTerrain(int row, int col, CellType type) {
+        int index = row * cols + col;
+        int oldType = store.getTerrain(index);
+        if (oldType == type.ordinal()) return;
+
+        if (!isWallAt(index)) {
+            openTypeCounts[oldType]--;
+            openTypeCounts[type.ordinal()]++;
+        }
+        store.setTerrain(index, type.ordinal());
+        version++;
+        fireCellChanged(index);
+    }
+
+    public void setWall(int row, int col, boolean wall) {
+        int index = row * cols + col;
+        if (isWallAt(index) == wall) return;
+
+        openTypeCounts[store.getTerrain(index)] += wall ? -1 : 1;
+        setWallBit(index, wall);
+        endpointDistance = NONE;
+        version++;
+        fireCellChanged(index);
+    }
+
+    // ========== CHANGE LISTENERS ==========
+
+    public void addListener(MazeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(MazeListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void fireCellChanged(int index) {
+        for (MazeListener listener : listeners) {
+            listener.cellChanged(this, index);
+        }
+    }
+
+    public boolean isTerrainEnabled() {
+        return terrainEnabled;
+    }
+
+    // Kalau dimatikan semua cell terbuka jadi EMPTY, berlaku mulai generateMaze berikutnya
+    public void setTerrainEnabled(boolean terrainEnabled) {
+        this.terrainEnabled = terrainEnabled;
+    }
+
+    public double getLoopDensity() {
+        return loopDensity;
+    }
+
+    // 0 = maze sempurna (recursive backtracker). Di atas 0 maze dibuat dengan Kruskal lalu sebagian
+    // tembok sisa ikut dibuka, jadi ada rute alternatif. Berlaku mulai generateMaze berikutnya,
+    // generateMazeParallel selalu membuat maze sempurna
+    public void setLoopDensity(double loopDensity) {
+        if (!(loopDensity >= 0 && loopDensity <= 1)) {
+            throw new IllegalArgumentException("Loop density must be in [0, 1]: " + loopDensity);
+        }
+        this.loopDensity = loopDensity;
+    }
+
+    public double getEndpointPercentile() {
+        return endpointPercentile;
+    }
+
+    // Jarak start-end sebagai persentil jarak BFS dari start: 1 = sejauh mungkin (default),
+    // 0.5 = median. Berlaku mulai generateMaze berikutnya
+    public void setEndpointPercentile(double endpointPercentile) {
+        if (!(endpointPercentile >= 0 && endpointPercentile <= 1)) {
+            throw new IllegalArgumentException("Endpoint percentile must be in [0, 1]: " + endpointPercentile);
+        }
+        this.endpointPercentile = endpointPercentile;
+    }
+
+    // Jumlah langkah start ke end (jarak BFS saat generate), NONE kalau tidak dihitung
+    // (maze dari file, maze sangat besar, atau wall diubah setelah generate)
+    public int getEndpointDistance() {
+        return endpointDistance;
+    }
+
+    // Semua cell terbuka punya cost yang sama, jadi shortest path = path dengan langkah paling sedikit
+    public boolean hasUniformCost() {
+        int cost = -1;
+        for (CellType type : TYPES) {
+            if (openTypeCounts[type.ordinal()] == 0) continue;
+            if (cost >= 0 && type.getCost() != cost) return false;
+            cost = type.getCost();
+        }
+        return true;
+    }
+
+    // Cost terendah di antara cell terbuka. Setiap langkah masuk ke cell terbuka, jadi
+    // Manhattan dikali nilai ini tidak pernah melebihi cost sebenarnya (heuristic admissible)
+    public int getMinOpenCost() {
+        int min = CellType.getMaxCost();
+        for (CellType type : TYPES) {
+            if (openTypeCounts[type.ordinal()] > 0) {
+                min = Math.min(min, type.getCost());
+            }
+        }
+        return min;
     }
 
     public Cell getStart() {
-        return start;
+        return startIndex == NONE ? null : getCell(startIndex);
     }
 
     public Cell getEnd() {
-        return end;
+        return endIndex == NONE ? null : getCell(endIndex);
+    }
+
+    public int getStartIndex() {
+        return startIndex;
     }
 
+    public int getEndIndex() {
+        return endIndex;
+    }
+
+    // Tanpa grid (maze besar) setiap panggilan membuat view baru; equals tetap berdasarkan row/col
     public Cell getCell(int row, int col) {
-        return grid[row][col];
+        Cell[][] view = grid;
+        return view != null ? view[row][col] : new Cell(this, row, col);
+    }
+
+    // Seed generateMaze terakhir (atau dari file yang dibuka)
+    public long getSeed() {
+        return seed;
     }
-}
 
+    // Dipakai MazeFile saat membuka file: wall/terrain sudah ada di store, tinggal metadata
+    void restore(long seed, int startIndex, int endIndex, int[] typeCounts) {
+        this.seed = seed;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.endpointDistance = NONE;
+        System.arraycopy(typeCounts, 0, openTypeCounts, 0, openTypeCounts.length);
+        resetViewState();
+        version++;
+
+        for (MazeListener listener : listeners) {
+            listener.mazeRegenerated(this);
+        }
+    }
+
+    // Jumlah cell terbuka per CellType (index = ordinal)
+    int[] getOpenTypeCounts() {
+        return openTypeCounts.clone();
+    }
+
+    public MazeStore getStore() {
+        return store;
+    }
+
+    // Wall + terrain di store, tanpa view Cell
+    public long getStorageBytes() {
+        return store.getStorageBytes();
+    }
+
+    // ========== INDEX ACCESS (row * cols + col) ==========
+
+    public int size() {
+        return rows * cols;
+    }
+
+    public int indexOf(Cell cell) {
+        return cell.getRow() * cols + cell.getCol();
+    }
+
+    public Cell getCell(int index) {
+        return getCell(index / cols, index % cols);
+    }
+
+    public boolean isOpen(int index) {
+        return !store.isWall(index);
+    }
+
+    public int getCost(int index) {
+        return TYPES[store.getTerrain(index)].getCost();
+    }
+
+    public CellType getType(int index) {
+        return TYPES[store.getTerrain(index)];
+    }
+}
@@ -0,0 +1,127 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MazeFile {
+
+    // Format file maze (big-endian):
+    //   header 64 byte: magic "MAZE", format version, rows, cols, seed, start, end,
+    //                   jumlah cell terbuka per CellType, panjang data, CRC32 data
+    //   data: layout tile MappedMazeStore (wall bitset + terrain byte per tile 64x64)
+    // Data tidak di-parse saat dibuka, tapi langsung di-map sebagai store dari Maze
+    private static final int MAGIC = 0x4D415A45;
+    public static final int FORMAT_VERSION = 1;
+    public static final int HEADER_BYTES = 64;
+    // Start / end kosong, sama dengan Maze.NONE
+    private static final int NONE = -1;
+
+    public static void save(Maze maze, Path file) throws IOException {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int[] typeCounts = maze.getOpenTypeCounts();
+        long dataBytes = MappedMazeStore.dataBytes(rows, cols);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedMazeStore target = new MappedMazeStore(channel, HEADER_BYTES, rows, cols,
+                    FileChannel.MapMode.READ_WRITE);
+            target.fillWalls(true);
+
+            MazeStore source = maze.getStore();
+            int size = maze.size();
+            for (int index = 0; index < size; index++) {
+                if (!source.isWall(index)) target.setWall(index, false);
+                target.setTerrain(index, source.getTerrain(index));
+            }
+            long checksum = target.checksum();
+            target.force();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC);
+            header.putInt(FORMAT_VERSION);
+            header.putInt(rows);
+            header.putInt(cols);
+            header.putLong(maze.getSeed());
+            header.putInt(maze.getStartIndex());
+            header.putInt(maze.getEndIndex());
+            for (int i = 0; i < typeCounts.length; i++) {
+                header.putInt(typeCounts[i]);
+            }
+            header.putLong(dataBytes);
+            header.putLong(checksum);
+            header.clear();
+            channel.write(header, 0);
+        }
+    }
+
+    // Zero-copy, read-only: wall dan terrain dibaca langsung dari file lewat mapping
+    public static Maze open(Path file) throws IOException {
+        return open(file, true);
+    }
+
+    // verifyChecksum = false melewati CRC (O(ukuran file)), jadi open hanya membaca header
+    public static Maze open(Path file, boolean verifyChecksum) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Truncated maze header: " + file);
+                }
+            }
+            header.flip();
+
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a maze file: " + file);
+            }
+            int formatVersion = header.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("Unsupported maze file version " + formatVersion + ": " + file);
+            }
+
+            int rows = header.getInt();
+            int cols = header.getInt();
+            long seed = header.getLong();
+            int start = header.getInt();
+            int end = header.getInt();
+            int[] typeCounts = new int[CellType.values().length];
+            for (int i = 0; i < typeCounts.length; i++) {
+                typeCounts[i] = header.getInt();
+            }
+            long dataBytes = header.getLong();
+            long checksum = header.getLong();
+
+            // Header tidak dipercaya begitu saja: ukuran harus muat sebagai index int
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+                throw new IOException("Invalid maze size " + rows + "x" + cols + ": " + file);
+            }
+            if (dataBytes != MappedMazeStore.dataBytes(rows, cols)
+                    || channel.size() < HEADER_BYTES + dataBytes) {
+                throw new IOException("Truncated maze data: " + file);
+            }
+
+            // Mapping tetap valid setelah channel ditutup
+            MappedMazeStore store = new MappedMazeStore(channel, HEADER_BYTES, rows, cols,
+                    FileChannel.MapMode.READ_ONLY);
+            if (verifyChecksum && store.checksum() != checksum) {
+                throw new IOException("Maze file checksum mismatch: " + file);
+            }
+
+            // Start / end boleh NONE, selain itu harus cell terbuka di dalam maze
+            checkEndpoint(store, start, "start", file);
+            checkEndpoint(store, end, "end", file);
+
+            Maze maze = new Maze(store);
+            maze.restore(seed, start, end, typeCounts);
+            return maze;
+        }
+    }
+
+    private static void checkEndpoint(MazeStore store, int index, String name, Path file) throws IOException {
+        if (index == NONE) return;
+        if (index < 0 || index >= store.getRows() * store.getCols() || store.isWall(index)) {
+            throw new IOException("Invalid maze " + name + " cell " + index + ": " + file);
+        }
+    }
+}
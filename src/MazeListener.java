@@ -0,0 +1,8 @@
+public interface MazeListener {
+
+    // Dipanggil setelah wall atau terrain satu cell berubah lewat Maze.setWall / Maze.setTerrain
+    void cellChanged(Maze maze, int index);
+
+    // Dipanggil setelah generateMaze, semua state lama tidak berlaku lagi
+    void mazeRegenerated(Maze maze);
+}
@@ -1,5 +1,7 @@
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
 import java.awt.geom.RoundRectangle2D;
 import java.util.List;
 
@@ -14,6 +16,8 @@ public class MazePanel extends JPanel {
     private int animationStep = 0;
     private float pathAlpha = 0.0f;
     private Timer fadeTimer;
+    private Timer replayTimer;
+    private int replayOrder = 0;
 
     private static final Color BG_COLOR = new Color(34, 44, 47);
     private static final Color WALL_COLOR = new Color(55, 71, 79);
@@ -21,10 +25,16 @@ public class MazePanel extends JPanel {
     private static final Color END_COLOR = new Color(244, 67, 54);
     private static final Color PATH_COLOR = new Color(255, 193, 7);
     private static final Color EXPLORING_COLOR = new Color(100, 181, 246);
+    private static final int REPLAY_DELAY = 30;
+    // Replay paling lama ~3 detik: trace besar memutar beberapa frame per tick
+    private static final int REPLAY_MAX_TICKS = 100;
+    private static final int REPLAY_RECENT = 24;
 
     public MazePanel() {
         this.maze = new Maze(MAZE_SIZE, MAZE_SIZE);
         this.maze.generateMaze();
+        // View Cell dibangun sekarang, supaya path dari worker thread memakai objek Cell yang sama dengan grid
+        this.maze.getGrid();
 
         int panelSize = MAZE_SIZE * CELL_SIZE;
         setPreferredSize(new Dimension(panelSize, panelSize));
@@ -123,7 +133,11 @@ public class MazePanel extends JPanel {
                 drawPathGlow(g2d, x, y, PATH_COLOR, alpha);
             }
         } else if (cell.isExploring()) {
+            // Saat replay trace hanya cell yang baru di-expand yang berdenyut, sisanya redup
             int alpha = 100 + (int) (Math.sin(animationStep * 0.3) * 50);
+            if (cell.getVisitOrder() >= 0 && cell.getVisitOrder() < replayOrder - REPLAY_RECENT) {
+                alpha = 60;
+            }
             cellColor = new Color(
                     EXPLORING_COLOR.getRed(),
                     EXPLORING_COLOR.getGreen(),
@@ -180,7 +194,47 @@ public class MazePanel extends JPanel {
         }
     }
 
+    // Maze baru selalu objek baru yang ditukar masuk: search yang baru dibatalkan masih bisa
+    // membaca maze lama di worker thread sampai checkpoint monitor berikutnya
     public void generateNewMaze() {
+        Maze next = createMaze();
+        next.generateMaze();
+        swapMaze(next);
+    }
+
+    // Buat ulang maze dari seed tertentu (misal seed dari laporan maze yang lambat)
+    public void generateNewMaze(long seed) {
+        Maze next = createMaze();
+        next.generateMaze(seed);
+        swapMaze(next);
+    }
+
+    // Ukuran dan pengaturan generate (loop, endpoint, terrain) ikut maze sekarang
+    private Maze createMaze() {
+        Maze next = new Maze(maze.getRows(), maze.getCols());
+        next.setLoopDensity(maze.getLoopDensity());
+        next.setEndpointPercentile(maze.getEndpointPercentile());
+        next.setTerrainEnabled(maze.isTerrainEnabled());
+        return next;
+    }
+
+    private void swapMaze(Maze next) {
+        stopAnimations();
+        // Sama seperti di constructor: view Cell dibangun sebelum search pertama
+        next.getGrid();
+        maze = next;
+        resetPathDisplay();
+    }
+
+    private void resetPathDisplay() {
+        currentPath = null;
+        animationStep = 0;
+        pathAlpha = 0.0f;
+        repaint();
+    }
+
+    private void stopAnimations() {
+        stopReplay();
         if (animationTimer != null && animationTimer.isRunning()) {
             animationTimer.stop();
             SoundManager.stopSound("findingpath");
@@ -188,11 +242,6 @@ public class MazePanel extends JPanel {
         if (fadeTimer != null && fadeTimer.isRunning()) {
             fadeTimer.stop();
         }
-        maze.generateMaze();
-        currentPath = null;
-        animationStep = 0;
-        pathAlpha = 0.0f;
-        repaint();
     }
 
     public void showPathWithAnimation(PathResult result) {
@@ -252,6 +301,60 @@ public class MazePanel extends JPanel {
         animationTimer.start();
     }
 
+    // Progress dari search yang sedang jalan: cell yang baru di-expand diberi warna exploring
+    public void showExploration(int[] cells) {
+        for (int index : cells) {
+            Cell cell = maze.getCell(index);
+            if (!cell.isStart() && !cell.isEnd()) {
+                cell.setExploring(true);
+            }
+        }
+        animationStep++;
+        repaint();
+    }
+
+    // Putar ulang urutan expand per tick, lalu jalankan onFinished (misal animasi path)
+    public void replayTrace(ExplorationTrace trace, Runnable onFinished) {
+        clearPath();
+        replayOrder = 0;
+        int framesPerTick = Math.max(1, (trace.getFrameCount() + REPLAY_MAX_TICKS - 1) / REPLAY_MAX_TICKS);
+
+        replayTimer = new Timer(REPLAY_DELAY, null);
+        replayTimer.addActionListener(new ActionListener() {
+            private int frame = 0;
+
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (frame >= trace.getFrameCount()) {
+                    stopReplay();
+                    if (onFinished != null) onFinished.run();
+                    return;
+                }
+
+                int lastFrame = Math.min(frame + framesPerTick, trace.getFrameCount());
+                for (int i = trace.frameStart(frame); i < trace.frameEnd(lastFrame - 1); i++) {
+                    Cell cell = maze.getCell(trace.getCell(i));
+                    if (!cell.isStart() && !cell.isEnd()) {
+                        cell.setExploring(true);
+                        cell.setVisitOrder(replayOrder);
+                    }
+                    replayOrder++;
+                }
+                frame = lastFrame;
+                animationStep++;
+                repaint();
+            }
+        });
+        replayTimer.start();
+    }
+
+    public void stopReplay() {
+        if (replayTimer != null && replayTimer.isRunning()) {
+            replayTimer.stop();
+        }
+        replayTimer = null;
+    }
+
     public void showPath(PathResult result) {
         clearPath();
 
@@ -268,6 +371,7 @@ public class MazePanel extends JPanel {
     }
 
     public void clearPath() {
+        stopReplay();
         for (int i = 0; i < maze.getRows(); i++) {
             for (int j = 0; j < maze.getCols(); j++) {
                 Cell cell = maze.getGrid()[i][j];
@@ -0,0 +1,16 @@
+public interface MazeRowSink {
+
+    // Menerima satu baris grid dari generator streaming (EllerMazeGenerator), berurutan dari row 0.
+    // walls[col] = true kalau tembok. Array dipakai ulang untuk baris berikutnya, jangan disimpan
+    void acceptRow(long row, boolean[] walls);
+
+    // Tulis baris ke store (misal MappedMazeStore), ukuran store harus sama dengan generator
+    static MazeRowSink into(MazeStore store) {
+        return (row, walls) -> {
+            int offset = Math.toIntExact(row * store.getCols());
+            for (int col = 0; col < walls.length; col++) {
+                store.setWall(offset + col, walls[col]);
+            }
+        };
+    }
+}
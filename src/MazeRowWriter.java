@@ -0,0 +1,58 @@
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public class MazeRowWriter implements MazeRowSink, Closeable {
+
+    // File wall saja untuk maze streaming yang terlalu tinggi untuk MazeStore (big-endian):
+    //   header 16 byte: magic "MZRW", rows (long), cols
+    //   data: per baris (cols + 7) / 8 byte, bit 7 byte pertama = kolom 0, 1 = tembok
+    private static final int MAGIC = 0x4D5A5257;
+
+    private final DataOutputStream out;
+    private final long rows;
+    private final int cols;
+    private final byte[] packed;
+    private long nextRow;
+
+    public MazeRowWriter(Path file, long rows, int cols) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        this.rows = rows;
+        this.cols = cols;
+        this.packed = new byte[(cols + 7) / 8];
+        out.writeInt(MAGIC);
+        out.writeLong(rows);
+        out.writeInt(cols);
+    }
+
+    @Override
+    public void acceptRow(long row, boolean[] walls) {
+        if (row != nextRow || walls.length != cols) {
+            throw new IllegalArgumentException("Unexpected row " + row + " (" + walls.length + " cols)");
+        }
+
+        Arrays.fill(packed, (byte) 0);
+        for (int col = 0; col < walls.length; col++) {
+            if (walls[col]) packed[col >>> 3] |= (byte) (0x80 >>> (col & 7));
+        }
+        try {
+            out.write(packed);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        nextRow++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+        if (nextRow != rows) {
+            throw new IOException("Incomplete maze: " + nextRow + " of " + rows + " rows written");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+public interface MazeStore {
+
+    // Storage wall + terrain per cell, index = row * cols + col. Terrain disimpan sebagai ordinal CellType
+
+    int getRows();
+
+    int getCols();
+
+    boolean isWall(int index);
+
+    void setWall(int index, boolean wall);
+
+    int getTerrain(int index);
+
+    void setTerrain(int index, int ordinal);
+
+    void fillWalls(boolean wall);
+
+    void fillTerrain(int ordinal);
+
+    // Byte yang dipakai storage (heap atau file)
+    long getStorageBytes();
+}
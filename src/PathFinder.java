@@ -4,35 +4,50 @@ public class PathFinder {
 
     //BPS
     public static PathResult findPathBFS(Maze maze) {
-        long startTime = System.nanoTime();
-
-        Queue<Cell> queue = new LinkedList<>();
-        Set<Cell> visited = new HashSet<>();
-        Map<Cell, Cell> parent = new HashMap<>();
-
-        Cell start = maze.getStart();
-        Cell end = maze.getEnd();
-
-        queue.offer(start);
-        visited.add(start);
-        parent.put(start, null);
+        return findPathBFS(maze, SearchMonitor.NONE);
+    }
 
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
+    public static PathResult findPathBFS(Maze maze, SearchMonitor monitor) {
+        // Cost seragam: path dengan langkah minimum sama, tapi lorong lurus bisa dilompati.
+        // Nama hasil dibedakan, karena jumlah node yang di-expand JPS tidak sebanding dengan BFS
+        if (maze.hasUniformCost()) {
+            return JumpPointSearch.findPath(maze, "BFS (JPS)", monitor);
+        }
 
-            if (current.equals(end)) {
-                List<Cell> path = reconstructPath(parent, end);
-                int totalCost = calculateTotalCost(path);
-                long executionTime = (System.nanoTime() - startTime) / 1000;
-                return new PathResult(path, totalCost, executionTime, "BFS");
+        long startTime = System.nanoTime();
+        SearchWorkspace workspace = SearchWorkspace.forThread(maze);
+        workspace.reset();
+
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int start = maze.indexOf(maze.getStart());
+        int end = maze.indexOf(maze.getEnd());
+
+        // Antrean int di workspace, distance = jumlah langkah (sekaligus penanda visited)
+        int[] queue = workspace.getQueue();
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        workspace.update(start, 0, SearchWorkspace.NO_PARENT);
+
+        while (head < tail) {
+            int current = queue[head++];
+            monitor.expanded(current, tail - head);
+
+            if (current == end) {
+                return toResult(maze, workspace, end, startTime, "BFS");
             }
 
-            for (Cell neighbor : maze.getNeighbors(current)) {
-                if (!visited.contains(neighbor)) {
-                    visited.add(neighbor);
-                    parent.put(neighbor, current);
-                    queue.offer(neighbor);
+            int row = current / cols;
+            int col = current % cols;
+            int steps = workspace.getDistance(current) + 1;
+            for (int d = 0; d < 4; d++) {
+                int neighbor = GridSearch.neighborOf(current, row, col, d, rows, cols);
+                if (neighbor < 0 || !maze.isOpen(neighbor) || workspace.getDistance(neighbor) != SearchWorkspace.INF) {
+                    continue;
                 }
+                workspace.update(neighbor, steps, current);
+                queue[tail++] = neighbor;
             }
         }
 
@@ -42,35 +57,43 @@ public class PathFinder {
 
     //DFS
     public static PathResult findPathDFS(Maze maze) {
-        long startTime = System.nanoTime();
-
-        Stack<Cell> stack = new Stack<>();
-        Set<Cell> visited = new HashSet<>();
-        Map<Cell, Cell> parent = new HashMap<>();
-
-        Cell start = maze.getStart();
-        Cell end = maze.getEnd();
-
-        stack.push(start);
-        visited.add(start);
-        parent.put(start, null);
-
-        while (!stack.isEmpty()) {
-            Cell current = stack.pop();
+        return findPathDFS(maze, SearchMonitor.NONE);
+    }
 
-            if (current.equals(end)) {
-                List<Cell> path = reconstructPath(parent, end);
-                int totalCost = calculateTotalCost(path);
-                long executionTime = (System.nanoTime() - startTime) / 1000;
-                return new PathResult(path, totalCost, executionTime, "DFS");
+    public static PathResult findPathDFS(Maze maze, SearchMonitor monitor) {
+        long startTime = System.nanoTime();
+        SearchWorkspace workspace = SearchWorkspace.forThread(maze);
+        workspace.reset();
+
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int start = maze.indexOf(maze.getStart());
+        int end = maze.indexOf(maze.getEnd());
+
+        // Stack int di workspace, cell ditandai visited saat di-push seperti versi Stack<Cell>
+        int[] stack = workspace.getQueue();
+        int top = 0;
+        stack[top++] = start;
+        workspace.update(start, 0, SearchWorkspace.NO_PARENT);
+
+        while (top > 0) {
+            int current = stack[--top];
+            monitor.expanded(current, top);
+
+            if (current == end) {
+                return toResult(maze, workspace, end, startTime, "DFS");
             }
 
-            for (Cell neighbor : maze.getNeighbors(current)) {
-                if (!visited.contains(neighbor)) {
-                    visited.add(neighbor);
-                    parent.put(neighbor, current);
-                    stack.push(neighbor);
+            int row = current / cols;
+            int col = current % cols;
+            int steps = workspace.getDistance(current) + 1;
+            for (int d = 0; d < 4; d++) {
+                int neighbor = GridSearch.neighborOf(current, row, col, d, rows, cols);
+                if (neighbor < 0 || !maze.isOpen(neighbor) || workspace.getDistance(neighbor) != SearchWorkspace.INF) {
+                    continue;
                 }
+                workspace.update(neighbor, steps, current);
+                stack[top++] = neighbor;
             }
         }
 
@@ -80,129 +103,67 @@ public class PathFinder {
 
     //Dijikstra
     public static PathResult findPathDijkstra(Maze maze) {
-        long startTime = System.nanoTime();
-
-        PriorityQueue<Node> pq = new PriorityQueue<>(Comparator.comparingInt(n -> n.cost));
-        Map<Cell, Integer> distances = new HashMap<>();
-        Map<Cell, Cell> parent = new HashMap<>();
-        Set<Cell> visited = new HashSet<>();
-
-        Cell start = maze.getStart();
-        Cell end = maze.getEnd();
-
-        // Initialize
-        for (int i = 0; i < maze.getRows(); i++) {
-            for (int j = 0; j < maze.getCols(); j++) {
-                distances.put(maze.getCell(i, j), Integer.MAX_VALUE);
-            }
-        }
-
-        distances.put(start, 0);
-        pq.offer(new Node(start, 0));
-        parent.put(start, null);
-
-        while (!pq.isEmpty()) {
-            Node currentNode = pq.poll();
-            Cell current = currentNode.cell;
-
-            if (visited.contains(current)) continue;
-            visited.add(current);
-
-            if (current.equals(end)) {
-                List<Cell> path = reconstructPath(parent, end);
-                int totalCost = distances.get(end);
-                long executionTime = (System.nanoTime() - startTime) / 1000;
-                return new PathResult(path, totalCost, executionTime, "Dijkstra");
-            }
-
-            for (Cell neighbor : maze.getNeighbors(current)) {
-                if (!visited.contains(neighbor)) {
-                    int newCost = distances.get(current) + neighbor.getCost();
-
-                    if (newCost < distances.get(neighbor)) {
-                        distances.put(neighbor, newCost);
-                        parent.put(neighbor, current);
-                        pq.offer(new Node(neighbor, newCost));
-                    }
-                }
-            }
-        }
+        return GridSearch.dijkstra(maze);
+    }
 
-        long executionTime = (System.nanoTime() - startTime) / 1000;
-        return new PathResult(null, -1, executionTime, "Dijkstra");
+    public static PathResult findPathDijkstra(Maze maze, SearchMonitor monitor) {
+        return GridSearch.dijkstra(maze, SearchWorkspace.forThread(maze), monitor);
     }
 
     //A*
     public static PathResult findPathAStar(Maze maze) {
-        long startTime = System.nanoTime();
-
-        PriorityQueue<AStarNode> pq = new PriorityQueue<>(Comparator.comparingInt(n -> n.fScore));
-        Map<Cell, Integer> gScore = new HashMap<>();
-        Map<Cell, Cell> parent = new HashMap<>();
-        Set<Cell> visited = new HashSet<>();
-
-        Cell start = maze.getStart();
-        Cell end = maze.getEnd();
-
-        // Initialize
-        for (int i = 0; i < maze.getRows(); i++) {
-            for (int j = 0; j < maze.getCols(); j++) {
-                gScore.put(maze.getCell(i, j), Integer.MAX_VALUE);
-            }
-        }
+        return GridSearch.aStar(maze);
+    }
 
-        gScore.put(start, 0);
-        int hStart = heuristic(start, end);
-        pq.offer(new AStarNode(start, 0, hStart));
-        parent.put(start, null);
+    public static PathResult findPathAStar(Maze maze, SearchMonitor monitor) {
+        return GridSearch.aStar(maze, SearchWorkspace.forThread(maze), monitor);
+    }
 
-        while (!pq.isEmpty()) {
-            AStarNode currentNode = pq.poll();
-            Cell current = currentNode.cell;
+    //Dial (bucket queue Dijkstra)
+    public static PathResult findPathDial(Maze maze) {
+        return GridSearch.dial(maze);
+    }
 
-            if (visited.contains(current)) continue;
-            visited.add(current);
+    public static PathResult findPathDial(Maze maze, SearchMonitor monitor) {
+        return GridSearch.dial(maze, SearchWorkspace.forThread(maze), monitor);
+    }
 
-            if (current.equals(end)) {
-                List<Cell> path = reconstructPath(parent, end);
-                int totalCost = gScore.get(end);
-                long executionTime = (System.nanoTime() - startTime) / 1000;
-                return new PathResult(path, totalCost, executionTime, "A*");
-            }
+    //Jump Point Search (cost seragam)
+    public static PathResult findPathJPS(Maze maze) {
+        return JumpPointSearch.findPath(maze);
+    }
 
-            for (Cell neighbor : maze.getNeighbors(current)) {
-                if (!visited.contains(neighbor)) {
-                    int tentativeGScore = gScore.get(current) + neighbor.getCost();
+    //Bidirectional (meet in the middle)
+    public static PathResult findPathBidirectionalBFS(Maze maze) {
+        return BidirectionalSearch.bfs(maze);
+    }
 
-                    if (tentativeGScore < gScore.get(neighbor)) {
-                        gScore.put(neighbor, tentativeGScore);
-                        parent.put(neighbor, current);
-                        int fScore = tentativeGScore + heuristic(neighbor, end);
-                        pq.offer(new AStarNode(neighbor, tentativeGScore, fScore));
-                    }
-                }
-            }
-        }
+    public static PathResult findPathBidirectionalBFS(Maze maze, SearchMonitor monitor) {
+        return BidirectionalSearch.bfs(maze, monitor);
+    }
 
-        long executionTime = (System.nanoTime() - startTime) / 1000;
-        return new PathResult(null, -1, executionTime, "A*");
+    public static PathResult findPathBidirectionalDijkstra(Maze maze) {
+        return BidirectionalSearch.dijkstra(maze);
     }
 
-    private static int heuristic(Cell current, Cell end) {
-        return Math.abs(current.getRow() - end.getRow()) +
-                Math.abs(current.getCol() - end.getCol());
+    public static PathResult findPathBidirectionalDijkstra(Maze maze, SearchMonitor monitor) {
+        return BidirectionalSearch.dijkstra(maze, monitor);
     }
 
-    private static List<Cell> reconstructPath(Map<Cell, Cell> parent, Cell end) {
-        List<Cell> path = new ArrayList<>();
-        Cell current = end;
+    public static PathResult findPathBidirectionalAStar(Maze maze) {
+        return BidirectionalSearch.aStar(maze);
+    }
 
-        while (current != null) {
-            path.add(0, current);
-            current = parent.get(current);
-        }
+    public static PathResult findPathBidirectionalAStar(Maze maze, SearchMonitor monitor) {
+        return BidirectionalSearch.aStar(maze, monitor);
+    }
 
-        return path;
+    private static PathResult toResult(Maze maze, SearchWorkspace workspace, int end, long startTime,
+                                       String algorithmName) {
+        List<Cell> path = GridSearch.buildPath(maze, workspace, end);
+        int totalCost = calculateTotalCost(path);
+        long executionTime = (System.nanoTime() - startTime) / 1000;
+        return new PathResult(path, totalCost, executionTime, algorithmName);
     }
 
     private static int calculateTotalCost(List<Cell> path) {
@@ -212,27 +173,4 @@ public class PathFinder {
         }
         return totalCost;
     }
-
-    private static class Node {
-        Cell cell;
-        int cost;
-
-        Node(Cell cell, int cost) {
-            this.cell = cell;
-            this.cost = cost;
-        }
-    }
-
-    private static class AStarNode {
-        Cell cell;
-        int gScore;  // Cost dari start ke current
-        int fScore;  // gScore + heuristic
-
-        AStarNode(Cell cell, int gScore, int fScore) {
-            this.cell = cell;
-            this.gScore = gScore;
-            this.fScore = fScore;
-        }
-    }
 }
-
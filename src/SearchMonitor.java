@@ -0,0 +1,136 @@
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+public class SearchMonitor {
+
+    // Dipasang ke engine search: setiap cell yang di-expand dicatat ke batch. Saat batch penuh,
+    // cancel dan deadline dicek lalu progress dikirim ke listener. Search yang dibatalkan berhenti
+    // dengan CancellationException. NONE tidak mencatat apa pun, jadi search biasa tidak terpengaruh
+    public static final SearchMonitor NONE = new SearchMonitor();
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    public static final long NO_TIMEOUT = 0;
+
+    public interface ProgressListener {
+        void onProgress(Progress progress);
+    }
+
+    public static class Progress {
+        private final long expanded;
+        private final int[] cells;
+        private final int frontierSize;
+
+        Progress(long expanded, int[] cells, int frontierSize) {
+            this.expanded = expanded;
+            this.cells = cells;
+            this.frontierSize = frontierSize;
+        }
+
+        // Total cell yang sudah di-expand sejak search mulai
+        public long getExpanded() {
+            return expanded;
+        }
+
+        // Index cell (row * cols + col) yang di-expand sejak progress sebelumnya
+        public int[] getCells() {
+            return cells;
+        }
+
+        public int getFrontierSize() {
+            return frontierSize;
+        }
+    }
+
+    private final int[] batch;
+    private final long deadline;
+    private final ProgressListener listener;
+    private final ExplorationTrace trace;
+    private int batchCount;
+    private int lastFrontierSize;
+    private long expanded;
+    private volatile boolean cancelled;
+
+    private SearchMonitor() {
+        this.batch = null;
+        this.deadline = Long.MAX_VALUE;
+        this.listener = null;
+        this.trace = null;
+    }
+
+    // Hanya cancel + deadline, tanpa progress
+    public SearchMonitor(long timeoutMillis) {
+        this(timeoutMillis, DEFAULT_BATCH_SIZE, null);
+    }
+
+    public SearchMonitor(long timeoutMillis, int batchSize, ProgressListener listener) {
+        this(timeoutMillis, batchSize, listener, null);
+    }
+
+    // trace boleh null; timeoutMillis NO_TIMEOUT = tanpa deadline
+    public SearchMonitor(long timeoutMillis, int batchSize, ProgressListener listener, ExplorationTrace trace) {
+        this.batch = new int[batchSize];
+        this.deadline = timeoutMillis == NO_TIMEOUT ? Long.MAX_VALUE : System.nanoTime() + timeoutMillis * 1_000_000L;
+        this.listener = listener;
+        this.trace = trace;
+    }
+
+    // Hanya rekam urutan expand, tanpa deadline dan progress
+    public static SearchMonitor tracing(ExplorationTrace trace) {
+        return new SearchMonitor(NO_TIMEOUT, DEFAULT_BATCH_SIZE, null, trace);
+    }
+
+    // Dipanggil engine sekali per cell yang di-expand, frontierSize = isi open list saat itu
+    public void expanded(int cell, int frontierSize) {
+        if (batch == null) return;
+
+        if (trace != null) trace.record(cell);
+        batch[batchCount++] = cell;
+        expanded++;
+        lastFrontierSize = frontierSize;
+        if (batchCount == batch.length) {
+            checkpoint();
+            flush();
+        }
+    }
+
+    // Batas alami dari engine (misal satu level BFS selesai), diteruskan ke trace
+    public void endFrame() {
+        if (trace != null) trace.endFrame();
+    }
+
+    // Kirim sisa batch, dipanggil setelah engine selesai
+    public void flush() {
+        if (batch == null || batchCount == 0) return;
+
+        if (listener != null) {
+            listener.onProgress(new Progress(expanded, Arrays.copyOf(batch, batchCount), lastFrontierSize));
+        }
+        batchCount = 0;
+    }
+
+    public void checkpoint() {
+        if (cancelled) {
+            throw new CancellationException("Search cancelled");
+        }
+        if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline > 0) {
+            throw new CancellationException("Search deadline exceeded");
+        }
+    }
+
+    // Aman dipanggil dari thread lain (EDT)
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public long getExpanded() {
+        return expanded;
+    }
+
+    public ExplorationTrace getTrace() {
+        return trace;
+    }
+}
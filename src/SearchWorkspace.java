@@ -0,0 +1,138 @@
+import java.util.Arrays;
+
+public class SearchWorkspace {
+
+    // State search yang dipakai ulang antar query. Entry dianggap valid hanya kalau stamp-nya
+    // sama dengan generation sekarang, jadi reset cukup generation++ (tidak perlu fill O(n))
+    public static final int INF = Integer.MAX_VALUE;
+    public static final int NO_PARENT = -1;
+
+    private final int capacity;
+    private final int[] seenStamp;
+    private final int[] closedStamp;
+    private final int[] distance;
+    private final int[] parent;
+    private final IndexedHeap heap;
+    private BucketQueue buckets;
+    private int[] queue;
+    private SearchWorkspace backward;
+    private int generation;
+
+    // Workspace per thread untuk overload search tanpa workspace (Compare All jalan paralel).
+    // Isinya hanya state search ber-stamp, tidak ada data maze, jadi dipakai semua maze yang muat
+    private static final ThreadLocal<SearchWorkspace> THREAD_WORKSPACE = new ThreadLocal<>();
+
+    public SearchWorkspace(int capacity) {
+        this.capacity = capacity;
+        this.seenStamp = new int[capacity];
+        this.closedStamp = new int[capacity];
+        this.distance = new int[capacity];
+        this.parent = new int[capacity];
+        this.heap = new IndexedHeap(capacity);
+    }
+
+    public static SearchWorkspace forMaze(Maze maze) {
+        return new SearchWorkspace(maze.size());
+    }
+
+    // Dibuat ulang hanya kalau maze lebih besar dari workspace thread ini
+    public static SearchWorkspace forThread(Maze maze) {
+        SearchWorkspace workspace = THREAD_WORKSPACE.get();
+        if (workspace == null || !workspace.fits(maze)) {
+            workspace = forMaze(maze);
+            THREAD_WORKSPACE.set(workspace);
+        }
+        return workspace;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean fits(Maze maze) {
+        return maze.size() <= capacity;
+    }
+
+    public void reset() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            // Sekali tiap ~2 miliar query stamp lama bisa bentrok, baru di sini full clear
+            Arrays.fill(seenStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            generation = 1;
+        }
+        heap.clear();
+        if (buckets != null) buckets.clear();
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    // ========== PER-CELL STATE ==========
+
+    public int getDistance(int index) {
+        return seenStamp[index] == generation ? distance[index] : INF;
+    }
+
+    public int getParent(int index) {
+        return seenStamp[index] == generation ? parent[index] : NO_PARENT;
+    }
+
+    public void update(int index, int newDistance, int newParent) {
+        seenStamp[index] = generation;
+        distance[index] = newDistance;
+        parent[index] = newParent;
+    }
+
+    public boolean isClosed(int index) {
+        return closedStamp[index] == generation;
+    }
+
+    public void close(int index) {
+        closedStamp[index] = generation;
+    }
+
+    public IndexedHeap getHeap() {
+        return heap;
+    }
+
+    // Dibuat saat pertama dipakai Dial, setelah itu ikut dipakai ulang
+    public BucketQueue getBuckets() {
+        if (buckets == null) {
+            buckets = new BucketQueue(capacity, CellType.getMaxCost());
+        }
+        return buckets;
+    }
+
+    // Antrean (BFS) atau stack (DFS) index cell. Setiap cell masuk paling banyak sekali per search,
+    // jadi kapasitas cukup. Dibuat saat pertama dipakai, isinya tidak di-reset
+    public int[] getQueue() {
+        if (queue == null) {
+            queue = new int[capacity];
+        }
+        return queue;
+    }
+
+    // State arah mundur untuk search dua arah, generation-nya di-reset terpisah
+    public SearchWorkspace getBackward() {
+        if (backward == null) {
+            backward = new SearchWorkspace(capacity);
+        }
+        return backward;
+    }
+
+    // Tulis path start..end ke out tanpa alokasi, return panjangnya
+    public int copyPath(int end, int[] out) {
+        int length = 0;
+        for (int current = end; current != NO_PARENT; current = getParent(current)) {
+            length++;
+        }
+
+        int i = length;
+        for (int current = end; current != NO_PARENT; current = getParent(current)) {
+            out[--i] = current;
+        }
+        return length;
+    }
+}
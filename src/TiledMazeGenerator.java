@@ -0,0 +1,237 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+public class TiledMazeGenerator {
+
+    // Grid dibagi tile tileSize x tileSize. Tiap tile di-carve sendiri (recursive backtracker) secara
+    // paralel dengan RNG sendiri, lalu tile disambung lewat spanning tree acak di graph antar tile:
+    // satu lubang di tembok batas per edge tree, jadi hasilnya tetap satu maze sempurna.
+    // Tile carve ke bitset lokal dulu, baru disalin ke store per baris tile. Baris tile mulai di
+    // kelipatan 64 row, jadi tidak ada dua thread yang menulis word/tile store yang sama
+    public static final int DEFAULT_TILE_SIZE = 256;
+    private static final int NO_SEAM = -1;
+
+    private final int tileSize;
+
+    public TiledMazeGenerator() {
+        this(DEFAULT_TILE_SIZE);
+    }
+
+    public TiledMazeGenerator(int tileSize) {
+        if (tileSize < 64 || tileSize % 64 != 0) {
+            throw new IllegalArgumentException("Tile size must be a multiple of 64: " + tileSize);
+        }
+        this.tileSize = tileSize;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    // Store harus sudah penuh tembok. Return jumlah cell yang dibuka (semuanya di dalam border).
+    // Hasil hanya bergantung pada seed dan ukuran tile, bukan jumlah thread
+    public int carve(MazeStore store, long seed, ForkJoinPool pool) {
+        int rows = store.getRows();
+        int cols = store.getCols();
+        if (rows < 3 || cols < 3) return 0;
+
+        // Tile terakhir menyerap sisa supaya setiap tile punya minimal satu cell
+        int tileRows = (rows - 3) / tileSize + 1;
+        int tileCols = (cols - 3) / tileSize + 1;
+        int tiles = tileRows * tileCols;
+
+        // Stream per tile di-split berurutan dari seed sebelum kerja paralel dimulai
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom seamRandom = root.split();
+        SplittableRandom[] tileRandoms = new SplittableRandom[tiles];
+        for (int tile = 0; tile < tiles; tile++) {
+            tileRandoms[tile] = root.split();
+        }
+
+        long[][] open = new long[tiles][];
+        int[] carved = new int[tiles];
+        pool.invoke(new ForRange(0, tiles, tile ->
+                carved[tile] = carveTile(rows, cols, tileRows, tileCols, tile, tileRandoms[tile], open)));
+
+        // Lubang ke tile kiri / atas (index di store), NO_SEAM kalau tidak ada edge tree
+        int[] seamLeft = new int[tiles];
+        int[] seamUp = new int[tiles];
+        int seams = connectTiles(rows, cols, tileRows, tileCols, seamRandom, seamLeft, seamUp);
+
+        pool.invoke(new ForRange(0, tileRows, tileRow ->
+                writeTileRow(store, tileRows, tileCols, tileRow, open, seamLeft, seamUp)));
+
+        int total = seams;
+        for (int count : carved) {
+            total += count;
+        }
+        return total;
+    }
+
+    // ========== TILE CARVING ==========
+
+    private int tileStart(int tile) {
+        return tile * tileSize;
+    }
+
+    private int tileEnd(int tile, int tileCount, int size) {
+        return tile == tileCount - 1 ? size : (tile + 1) * tileSize;
+    }
+
+    // Recursive backtracker di dalam tile, bitset lokal ukuran tinggi x lebar tile
+    private int carveTile(int rows, int cols, int tileRows, int tileCols, int tile, SplittableRandom random,
+                          long[][] open) {
+        int tileRow = tile / tileCols;
+        int tileCol = tile % tileCols;
+        int r0 = tileStart(tileRow);
+        int c0 = tileStart(tileCol);
+        int height = tileEnd(tileRow, tileRows, rows) - r0;
+        int width = tileEnd(tileCol, tileCols, cols) - c0;
+        // Cell terakhir (lokal, ganjil) yang masih di dalam border maze
+        int maxRow = Math.min(r0 + height, rows - 1) - 1 - r0;
+        int maxCol = Math.min(c0 + width, cols - 1) - 1 - c0;
+
+        long[] bits = new long[(height * width + 63) >>> 6];
+        int[] stack = new int[64];
+        int[] unvisited = new int[4];
+        int top = 0;
+
+        int current = width + 1;
+        bits[current >>> 6] |= 1L << current;
+        stack[top++] = current;
+        int count = 1;
+
+        while (top > 0) {
+            current = stack[top - 1];
+            int row = current / width;
+            int col = current - row * width;
+            int n = 0;
+
+            if (row - 2 >= 1 && !isSet(bits, current - 2 * width)) unvisited[n++] = current - 2 * width;
+            if (row + 2 <= maxRow && !isSet(bits, current + 2 * width)) unvisited[n++] = current + 2 * width;
+            if (col - 2 >= 1 && !isSet(bits, current - 2)) unvisited[n++] = current - 2;
+            if (col + 2 <= maxCol && !isSet(bits, current + 2)) unvisited[n++] = current + 2;
+
+            if (n > 0) {
+                int next = unvisited[random.nextInt(n)];
+                int between = (current + next) >>> 1;
+                bits[between >>> 6] |= 1L << between;
+                bits[next >>> 6] |= 1L << next;
+                count += 2;
+                if (top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+                stack[top++] = next;
+            } else {
+                top--;
+            }
+        }
+
+        open[tile] = bits;
+        return count;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    // ========== SEAMS ==========
+
+    // Kruskal acak di graph tile (edge = tile bertetangga), tiap edge tree jadi satu lubang
+    private int connectTiles(int rows, int cols, int tileRows, int tileCols, SplittableRandom random,
+                             int[] seamLeft, int[] seamUp) {
+        int tiles = tileRows * tileCols;
+        Arrays.fill(seamLeft, NO_SEAM);
+        Arrays.fill(seamUp, NO_SEAM);
+
+        // Edge disimpan sebagai tile * 2 (+0 = ke kiri, +1 = ke atas)
+        int[] edges = new int[2 * tiles];
+        int edgeCount = 0;
+        for (int tile = 0; tile < tiles; tile++) {
+            if (tile % tileCols > 0) edges[edgeCount++] = tile * 2;
+            if (tile / tileCols > 0) edges[edgeCount++] = tile * 2 + 1;
+        }
+
+        for (int i = edgeCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = edges[i];
+            edges[i] = edges[j];
+            edges[j] = swap;
+        }
+
+        int[] parent = new int[tiles];
+        for (int tile = 0; tile < tiles; tile++) {
+            parent[tile] = tile;
+        }
+
+        int seams = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            int tile = edges[e] >>> 1;
+            boolean up = (edges[e] & 1) != 0;
+            int other = up ? tile - tileCols : tile - 1;
+            int a = find(parent, tile);
+            int b = find(parent, other);
+            if (a == b) continue;
+            parent[a] = b;
+
+            int tileRow = tile / tileCols;
+            int tileCol = tile % tileCols;
+            if (up) {
+                // Tembok batas = row pertama tile ini, lubang di kolom cell (ganjil) tile ini
+                int col = randomCell(random, tileStart(tileCol), tileEnd(tileCol, tileCols, cols), cols);
+                seamUp[tile] = tileStart(tileRow) * cols + col;
+            } else {
+                int row = randomCell(random, tileStart(tileRow), tileEnd(tileRow, tileRows, rows), rows);
+                seamLeft[tile] = row * cols + tileStart(tileCol);
+            }
+            seams++;
+        }
+        return seams;
+    }
+
+    // Koordinat cell acak (ganjil) di rentang tile [start, end)
+    private static int randomCell(SplittableRandom random, int start, int end, int size) {
+        int last = Math.min(end, size - 1) - 1;
+        int count = (last - start - 1) / 2 + 1;
+        return start + 1 + 2 * random.nextInt(count);
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    // ========== STORE WRITE ==========
+
+    // Satu baris tile: salin bitset tile lalu buka seam milik tile (row batasnya ada di baris tile ini)
+    private void writeTileRow(MazeStore store, int tileRows, int tileCols, int tileRow,
+                              long[][] open, int[] seamLeft, int[] seamUp) {
+        int rows = store.getRows();
+        int cols = store.getCols();
+        int r0 = tileStart(tileRow);
+        int height = tileEnd(tileRow, tileRows, rows) - r0;
+
+        for (int tileCol = 0; tileCol < tileCols; tileCol++) {
+            int tile = tileRow * tileCols + tileCol;
+            int c0 = tileStart(tileCol);
+            int width = tileEnd(tileCol, tileCols, cols) - c0;
+            long[] bits = open[tile];
+
+            for (int word = 0; word < bits.length; word++) {
+                long value = bits[word];
+                while (value != 0) {
+                    int local = (word << 6) + Long.numberOfTrailingZeros(value);
+                    value &= value - 1;
+                    int row = local / width;
+                    store.setWall((r0 + row) * cols + c0 + local - row * width, false);
+                }
+            }
+            open[tile] = null;
+
+            if (seamLeft[tile] != NO_SEAM) store.setWall(seamLeft[tile], false);
+            if (seamUp[tile] != NO_SEAM) store.setWall(seamUp[tile], false);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+import java.util.*;
+
+public class TreePathIndex {
+
+    // Maze hasil recursive backtracker = spanning tree, jadi setiap pasangan cell punya tepat satu path.
+    // Tree di-root sekali, lalu query path/length/cost lewat LCA tanpa graph search.
+    // LCA pakai jump pointer skew-binary: O(log n) per query dengan memori O(n), bukan O(n log n) seperti sparse table
+    private static final int NONE = -1;
+
+    private final Maze maze;
+    private final int version;
+    private final int root;
+    private final int[] parent;
+    private final int[] jump;
+    private final int[] depth;
+    private final int[] prefixCost;   // jumlah cost cell dari root sampai cell ini (inklusif)
+    private long buildTime;
+
+    private TreePathIndex(Maze maze, int root) {
+        int size = maze.size();
+        this.maze = maze;
+        this.version = maze.getVersion();
+        this.root = root;
+        this.parent = new int[size];
+        this.jump = new int[size];
+        this.depth = new int[size];
+        this.prefixCost = new int[size];
+    }
+
+    // Return null kalau cell terbuka tidak membentuk tree (ada loop atau tidak terhubung)
+    public static TreePathIndex build(Maze maze) {
+        long startTime = System.nanoTime();
+
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int size = rows * cols;
+
+        int openCount = 0;
+        long edgeCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (!maze.isOpen(i)) continue;
+            openCount++;
+            int col = i % cols;
+            if (col < cols - 1 && maze.isOpen(i + 1)) edgeCount++;
+            if (i + cols < size && maze.isOpen(i + cols)) edgeCount++;
+        }
+        if (openCount == 0 || edgeCount != openCount - 1) return null;
+
+        int root = maze.getStart() != null ? maze.indexOf(maze.getStart()) : firstOpen(maze);
+        TreePathIndex index = new TreePathIndex(maze, root);
+        int reached = index.rootTree(rows, cols);
+        if (reached != openCount) return null;
+
+        index.buildTime = (System.nanoTime() - startTime) / 1000;
+        return index;
+    }
+
+    private static int firstOpen(Maze maze) {
+        for (int i = 0; i < maze.size(); i++) {
+            if (maze.isOpen(i)) return i;
+        }
+        return NONE;
+    }
+
+    // BFS dari root: parent diproses sebelum anak, jadi jump pointer anak bisa langsung dihitung
+    private int rootTree(int rows, int cols) {
+        Arrays.fill(parent, NONE);
+        int[] queue = new int[maze.size()];
+        int head = 0;
+        int tail = 0;
+
+        parent[root] = root;
+        jump[root] = root;
+        depth[root] = 0;
+        prefixCost[root] = maze.getCost(root);
+        queue[tail++] = root;
+
+        while (head < tail) {
+            int current = queue[head++];
+            int row = current / cols;
+            int col = current % cols;
+
+            for (int d = 0; d < 4; d++) {
+                int child = GridSearch.neighborOf(current, row, col, d, rows, cols);
+                if (child < 0 || parent[child] != NONE || !maze.isOpen(child)) continue;
+
+                parent[child] = current;
+                depth[child] = depth[current] + 1;
+                prefixCost[child] = prefixCost[current] + maze.getCost(child);
+
+                int up = jump[current];
+                if (depth[current] - depth[up] == depth[up] - depth[jump[up]]) {
+                    jump[child] = jump[up];
+                } else {
+                    jump[child] = current;
+                }
+                queue[tail++] = child;
+            }
+        }
+        return tail;
+    }
+
+    public boolean isValid() {
+        return version == maze.getVersion();
+    }
+
+    // ========== QUERIES ==========
+
+    public int lowestCommonAncestor(int a, int b) {
+        if (depth[a] < depth[b]) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+
+        while (depth[a] > depth[b]) {
+            a = depth[jump[a]] >= depth[b] ? jump[a] : parent[a];
+        }
+
+        while (a != b) {
+            if (jump[a] != jump[b]) {
+                a = jump[a];
+                b = jump[b];
+            } else {
+                a = parent[a];
+                b = parent[b];
+            }
+        }
+        return a;
+    }
+
+    // Jumlah cell di path, termasuk kedua ujung
+    public int pathLength(int from, int to) {
+        int lca = lowestCommonAncestor(from, to);
+        return depth[from] + depth[to] - 2 * depth[lca] + 1;
+    }
+
+    // Cost seperti Dijkstra: cost cell yang dimasuki, tanpa cell awal
+    public int pathCost(int from, int to) {
+        int lca = lowestCommonAncestor(from, to);
+        return prefixCost[from] - maze.getCost(from)
+                + prefixCost[to] - 2 * prefixCost[lca] + maze.getCost(lca);
+    }
+
+    public PathResult findPath() {
+        return findPath(maze.getStart(), maze.getEnd());
+    }
+
+    // List cell hanya dibangun di sini, query length/cost tidak perlu
+    public PathResult findPath(Cell startCell, Cell endCell) {
+        long startTime = System.nanoTime();
+
+        int from = maze.indexOf(startCell);
+        int to = maze.indexOf(endCell);
+        int lca = lowestCommonAncestor(from, to);
+
+        List<Cell> path = new ArrayList<>(depth[from] + depth[to] - 2 * depth[lca] + 1);
+        for (int current = from; current != lca; current = parent[current]) {
+            path.add(maze.getCell(current));
+        }
+        int upLength = path.size();
+        for (int current = to; current != lca; current = parent[current]) {
+            path.add(maze.getCell(current));
+        }
+        path.add(maze.getCell(lca));
+        Collections.reverse(path.subList(upLength, path.size()));
+
+        int totalCost = prefixCost[from] - maze.getCost(from)
+                + prefixCost[to] - 2 * prefixCost[lca] + maze.getCost(lca);
+        long executionTime = (System.nanoTime() - startTime) / 1000;
+        return new PathResult(path, totalCost, executionTime, "Tree Index");
+    }
+
+    public long getBuildTime() {
+        return buildTime;
+    }
+}